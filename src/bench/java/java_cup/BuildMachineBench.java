@@ -0,0 +1,102 @@
+package java_cup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+/**
+ * Micro benchmark for the construction of the LALR state machine. Each grammar
+ * named on the command line is parsed and its first sets computed once; then
+ * LalrStateFactory.build_machine() (including lookahead propagation) is run on
+ * a fresh factory for a number of warmup and measured iterations, and the
+ * average wall time per build is reported.
+ * <p>
+ * 
+ * Usage:
+ * 
+ * <pre>
+ *   java java_cup.BuildMachineBench [-warmup n] [-iterations n]
+ *                                   [-parallel n] [-digraph] [-pgm | -lr1]
+ *                                   file.cup ...
+ * </pre>
+ * 
+ * Run it through "ant bench", which builds it against the current classes and
+ * benchmarks the test grammars (set bench.args to override).
+ */
+public class BuildMachineBench {
+
+	private int warmup = 200;
+	private int iterations = 200;
+	private int threads = 0;
+	private boolean digraph = false;
+	private int construction = LalrStateFactory.LALR;
+
+	public static void main(final String[] argv) throws Exception {
+		new BuildMachineBench().run(argv);
+	}
+
+	private void run(final String[] argv) throws Exception {
+		for (int i = 0; i < argv.length; i++) {
+			if (argv[i].equals("-warmup")) {
+				warmup = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-iterations")) {
+				iterations = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-parallel")) {
+				threads = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-digraph")) {
+				digraph = true;
+			} else if (argv[i].equals("-pgm")) {
+				construction = LalrStateFactory.PGM;
+			} else if (argv[i].equals("-lr1")) {
+				construction = LalrStateFactory.LR1;
+			} else {
+				bench(argv[i]);
+			}
+		}
+	}
+
+	/** Parse a grammar and get it ready for build_machine(). */
+	static Factories prepare(final String file, final IErrorManager errorManager,
+			final Emitter emitter) throws Exception {
+		final InputStream saved = System.in;
+		final Factories factories = new Factories(errorManager, emitter);
+		final ITimings timings = new Timings();
+		final InputStream in = new FileInputStream(file);
+		try {
+			System.setIn(in);
+			factories.parse_grammar_spec(false, errorManager, emitter, timings);
+		} finally {
+			System.setIn(saved);
+			in.close();
+		}
+		factories.nonTerminalFactory.build_parser(new NullPrintStream(),
+				factories.productionFactory, new Options(), timings);
+		return factories;
+	}
+
+	private void bench(final String file) throws Exception {
+		final IErrorManager errorManager = new ErrorManager();
+		final Emitter emitter = new cup_emit();
+		emitter.set_nowarn(true);
+		final Factories factories = prepare(file, errorManager, emitter);
+
+		int states = 0;
+		long total = 0;
+		for (int i = 0; i < warmup + iterations; i++) {
+			final LalrStateFactory lalr = new LalrStateFactory();
+			lalr.set_digraph_lookaheads(digraph);
+			lalr.set_construction(construction);
+			final long start = System.nanoTime();
+			lalr.build_machine(errorManager, factories.terminalFactory,
+					emitter.start_production(), threads);
+			final long elapsed = System.nanoTime() - start;
+			if (i >= warmup) {
+				total += elapsed;
+			}
+			states = lalr.number();
+		}
+		System.out.printf("%-20s %6d states %10.3f ms/build%n",
+				new File(file).getName(), states,
+				total / 1e6 / iterations);
+	}
+}
@@ -0,0 +1,667 @@
+package java_cup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import java_cup.bench.LispParser;
+import java_cup.bench.LispVariantParser;
+import java_cup.bench.PascalParser;
+import java_cup.bench.PascalVariantParser;
+import java_cup.runtime.BatchScanner;
+import java_cup.runtime.DefaultSymbolFactory;
+import java_cup.runtime.ParseStack;
+import java_cup.runtime.PooledSymbolFactory;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import java_cup.runtime.SymbolFactory;
+import java_cup.runtime.lr_parser;
+
+/**
+ * Benchmark for the runtime parser. The parsers are generated from the
+ * grammars in src/bench/cup (the pascal and lisp test grammars without their
+ * semantic actions), so lr_parser.parse() is measured rather than user code.
+ * <p>
+ *
+ * The input is a corpus of random sentences derived from the grammar itself,
+ * pre-tokenized into arrays of symbol numbers and handed to the parser by an
+ * in-memory Scanner. Sentences the parser rejects (possible where conflicts
+ * were resolved against them) are left out. Each measured operation parses
+ * the whole corpus with fresh parsers; tokens and reductions per second and
+ * the bytes allocated per token are reported. The corpus is then parsed again
+ * with one token in every "-error_rate" replaced by a random terminal, and
+ * the extra time per syntax error is reported as the cost of error recovery.
+ * <p>
+ *
+ * The bench target also generates a variant of each parser with the JavaCUP
+ * options in the bench.cup.options property (passed on as a system property
+ * of the same name), which "-variant" measures instead of the default parser.
+ * When such options are given, the variant is first checked to give the same
+ * results as the default parser on both corpora: whether each sentence is
+ * accepted, the syntax errors, the tokens read and the productions reduced
+ * (except action-less unit productions, which -chain_units does not reduce).
+ * With options that change where a syntax error is detected (-consistent,
+ * -compact_red, -pgm and -lr1) error recovery may start from another
+ * configuration, so for those the number of sentences of the broken corpus
+ * which come out differently is only reported. Only one kind of parser is
+ * measured per run, so the JIT compiles the parser loop for it alone; compare
+ * a run with "-variant" to one without.
+ * <p>
+ *
+ * Usage:
+ *
+ * <pre>
+ *   java java_cup.ParserBench [-warmup n] [-iterations n] [-tokens n]
+ *                             [-depth n] [-error_rate n] [-pooled] [-batch]
+ *                             [-variant] pascal | lisp ...
+ * </pre>
+ *
+ * Run it through "ant bench -Dbench.class=java_cup.ParserBench
+ * -Dbench.args='pascal lisp'" (adding e.g. -Dbench.cup.options=-chain_units
+ * for a variant); the bench target generates the parsers.
+ */
+public class ParserBench {
+
+	private int warmup = 20;
+	private int iterations = 20;
+	private int tokens = 100000;
+	private int depth = 12;
+	private int error_rate = 100;
+	private boolean pooled = false;
+	private boolean batch = false;
+	private boolean variant = false;
+
+	/** Options the variant parsers were generated with ("" for none). */
+	private final String options = System.getProperty("bench.cup.options",
+			"").trim();
+
+	/** Options which change where syntax errors are detected. */
+	private static final List<String> DETECTION_OPTIONS = Arrays.asList(
+			"-consistent", "-compact_red", "-pgm", "-lr1");
+
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	/** Syntax errors reported since the last reset. */
+	private int errors;
+
+	/** Are reductions being recorded in digest? */
+	private boolean tracing = false;
+
+	/** Hash of the productions reduced since the last reset, when tracing. */
+	private long digest;
+
+	/** Productions left out of the digest. */
+	private BitSet untraced = new BitSet();
+
+	public static void main(final String[] argv) throws Exception {
+		new ParserBench().run(argv);
+	}
+
+	private void run(final String[] argv) throws Exception {
+		System.out.printf("%-8s %-6s %9s %9s %10s %10s %8s %9s %9s%n",
+				"grammar", "input", "tokens/op", "ms/op", "Ktok/s",
+				"Kred/s", "B/tok", "errors/op", "us/error");
+		for (int i = 0; i < argv.length; i++) {
+			if (argv[i].equals("-warmup")) {
+				warmup = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-iterations")) {
+				iterations = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-tokens")) {
+				tokens = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-depth")) {
+				depth = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-error_rate")) {
+				error_rate = Integer.parseInt(argv[++i]);
+			} else if (argv[i].equals("-pooled")) {
+				pooled = true;
+			} else if (argv[i].equals("-batch")) {
+				batch = true;
+			} else if (argv[i].equals("-variant")) {
+				if (options.length() == 0) {
+					throw new IllegalArgumentException(
+							"-variant needs the bench.cup.options the variant"
+									+ " parsers were generated with");
+				}
+				variant = true;
+			} else {
+				bench(argv[i]);
+			}
+		}
+	}
+
+	/** Scanner handing out a pre-tokenized sentence. */
+	private static class TokenScanner implements Scanner {
+		final int[] ids;
+		final SymbolFactory factory;
+		int pos = 0;
+
+		TokenScanner(final int[] ids, final SymbolFactory factory) {
+			this.ids = ids;
+			this.factory = factory;
+		}
+
+		public Symbol next_token() {
+			if (pos == ids.length) {
+				return null;
+			}
+			return factory.newSymbol("token", ids[pos++]);
+		}
+	}
+
+	/** TokenScanner handing out its tokens in batches. */
+	private static class BatchTokenScanner extends TokenScanner implements
+			BatchScanner {
+		BatchTokenScanner(final int[] ids, final SymbolFactory factory) {
+			super(ids, factory);
+		}
+
+		public int next_tokens(final Symbol[] buffer) {
+			int n = 0;
+			while (n < buffer.length && pos < ids.length) {
+				buffer[n++] = factory.newSymbol("token", ids[pos++]);
+			}
+			return n;
+		}
+	}
+
+	/** SymbolFactory counting the non terminals created by reductions. */
+	private static class CountingSymbolFactory extends DefaultSymbolFactory {
+		int reductions;
+
+		@Override
+		public Symbol newSymbol(final String name, final int id,
+				final Symbol left, final Symbol right, final Object value) {
+			reductions++;
+			return super.newSymbol(name, id, left, right, value);
+		}
+
+		@Override
+		public Symbol newSymbol(final String name, final int id,
+				final Symbol left, final Symbol right) {
+			reductions++;
+			return super.newSymbol(name, id, left, right);
+		}
+	}
+
+	/** Record a reduction, when tracing. */
+	private void reduced(final int act_num) {
+		if (tracing && !untraced.get(act_num)) {
+			digest = digest * 31 + act_num + 1;
+		}
+	}
+
+	/**
+	 * Create a parser for a benchmark grammar (the variant generated with
+	 * bench.cup.options, or the default one) which counts its errors and
+	 * reports its reductions to reduced().
+	 */
+	private lr_parser create(final String grammar, final boolean variant,
+			final Scanner s, final SymbolFactory f) {
+		if (grammar.equals("pascal") && !variant) {
+			return new PascalParser(s, f) {
+				@Override
+				public void syntax_error(final Symbol cur_token) {
+					errors++;
+				}
+
+				@Override
+				public void report_error(final String message,
+						final Object info) {
+				}
+
+				@Override
+				public Symbol do_action(final int act_num,
+						final lr_parser parser, final ParseStack stack,
+						final int top) throws Exception {
+					reduced(act_num);
+					return super.do_action(act_num, parser, stack, top);
+				}
+			};
+		} else if (grammar.equals("pascal")) {
+			return new PascalVariantParser(s, f) {
+				@Override
+				public void syntax_error(final Symbol cur_token) {
+					errors++;
+				}
+
+				@Override
+				public void report_error(final String message,
+						final Object info) {
+				}
+
+				@Override
+				public Symbol do_action(final int act_num,
+						final lr_parser parser, final ParseStack stack,
+						final int top) throws Exception {
+					reduced(act_num);
+					return super.do_action(act_num, parser, stack, top);
+				}
+			};
+		} else if (grammar.equals("lisp") && !variant) {
+			return new LispParser(s, f) {
+				@Override
+				public void syntax_error(final Symbol cur_token) {
+					errors++;
+				}
+
+				@Override
+				public void report_error(final String message,
+						final Object info) {
+				}
+
+				@Override
+				public Symbol do_action(final int act_num,
+						final lr_parser parser, final ParseStack stack,
+						final int top) throws Exception {
+					reduced(act_num);
+					return super.do_action(act_num, parser, stack, top);
+				}
+			};
+		} else if (grammar.equals("lisp")) {
+			return new LispVariantParser(s, f) {
+				@Override
+				public void syntax_error(final Symbol cur_token) {
+					errors++;
+				}
+
+				@Override
+				public void report_error(final String message,
+						final Object info) {
+				}
+
+				@Override
+				public Symbol do_action(final int act_num,
+						final lr_parser parser, final ParseStack stack,
+						final int top) throws Exception {
+					reduced(act_num);
+					return super.do_action(act_num, parser, stack, top);
+				}
+			};
+		}
+		throw new IllegalArgumentException("Unknown grammar \"" + grammar
+				+ "\" (expected pascal or lisp)");
+	}
+
+	/**
+	 * Parse one sentence; false if the parse gave up (report_fatal_error()
+	 * throws).
+	 */
+	private boolean parse(final String grammar, final boolean variant,
+			final int[] sentence, final SymbolFactory factory) {
+		try {
+			create(grammar, variant,
+					batch ? new BatchTokenScanner(sentence, factory)
+							: new TokenScanner(sentence, factory), factory)
+					.parse();
+			return true;
+		} catch (final Exception e) {
+			return false;
+		}
+	}
+
+	/** Bytes allocated so far by this thread, or -1 if not measurable. */
+	private long allocated() {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/**
+	 * Random sentences of a grammar. Productions are picked at random until
+	 * the derivation is depth levels deep; below that the production with
+	 * the shallowest derivation is used so every sentence is finite.
+	 * Productions containing the error terminal are never used.
+	 */
+	private static class SentenceGenerator {
+		/** Right hand sides by lhs: terminal t as t, non terminal n as ~n. */
+		private final int[][][] rhs;
+		/** Height of the shallowest derivation of each production. */
+		private final int[][] height;
+		private final int[] start;
+		private final int eof;
+		private final Random random = new Random(42);
+		final int terminals;
+		final int error;
+
+		SentenceGenerator(final Factories factories, final Emitter emitter)
+				throws internal_error {
+			terminals = factories.terminalFactory.number();
+			error = factories.terminalFactory.error.index();
+			eof = factories.terminalFactory.EOF.index();
+			final int nts = factories.nonTerminalFactory.number();
+			final List<List<int[]>> by_lhs = new ArrayList<List<int[]>>();
+			for (int n = 0; n < nts; n++) {
+				by_lhs.add(new ArrayList<int[]>());
+			}
+			int[] start_rhs = null;
+			for (int p = 0; p < factories.productionFactory.number(); p++) {
+				final production prod = factories.productionFactory.find(p);
+				final int[] r = encode(prod);
+				if (prod == emitter.start_production()) {
+					start_rhs = r;
+				} else if (r != null) {
+					by_lhs.get(prod.lhs().the_symbol().index()).add(r);
+				}
+			}
+			start = start_rhs;
+			rhs = new int[nts][][];
+			height = new int[nts][];
+			for (int n = 0; n < nts; n++) {
+				rhs[n] = by_lhs.get(n).toArray(new int[0][]);
+				height[n] = new int[rhs[n].length];
+			}
+			compute_heights();
+		}
+
+		private int[] encode(final production prod) throws internal_error {
+			final List<Integer> r = new ArrayList<Integer>();
+			for (int i = 0; i < prod.rhs_length(); i++) {
+				if (prod.rhs(i).is_action()) {
+					continue;
+				}
+				final symbol sym = ((symbol_part) prod.rhs(i)).the_symbol();
+				if (!sym.is_non_term() && sym.index() == error) {
+					return null;
+				}
+				r.add(sym.is_non_term() ? ~sym.index() : sym.index());
+			}
+			final int[] result = new int[r.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = r.get(i);
+			}
+			return result;
+		}
+
+		private void compute_heights() {
+			final int[] min = new int[rhs.length];
+			for (int n = 0; n < rhs.length; n++) {
+				min[n] = Integer.MAX_VALUE;
+			}
+			boolean changed = true;
+			while (changed) {
+				changed = false;
+				for (int n = 0; n < rhs.length; n++) {
+					for (int p = 0; p < rhs[n].length; p++) {
+						int h = 1;
+						for (final int s : rhs[n][p]) {
+							if (s >= 0) {
+								continue;
+							}
+							if (min[~s] == Integer.MAX_VALUE) {
+								h = Integer.MAX_VALUE;
+								break;
+							}
+							h = Math.max(h, min[~s] + 1);
+						}
+						height[n][p] = h;
+						if (h < min[n]) {
+							min[n] = h;
+							changed = true;
+						}
+					}
+				}
+			}
+		}
+
+		int[] sentence(final int depth) {
+			final List<Integer> out = new ArrayList<Integer>();
+			for (final int s : start) {
+				expand(s, 0, depth, out);
+			}
+			final int[] result = new int[out.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = out.get(i);
+			}
+			return result;
+		}
+
+		private void expand(final int s, final int level, final int depth,
+				final List<Integer> out) {
+			if (s >= 0) {
+				if (s != eof) {
+					out.add(s);
+				}
+				return;
+			}
+			final int n = ~s;
+			int p = 0;
+			if (level < depth) {
+				p = random.nextInt(rhs[n].length);
+			} else {
+				for (int q = 1; q < rhs[n].length; q++) {
+					if (height[n][q] < height[n][p]) {
+						p = q;
+					}
+				}
+			}
+			for (final int t : rhs[n][p]) {
+				expand(t, level + 1, depth, out);
+			}
+		}
+
+		/** A terminal other than EOF and error. */
+		int random_terminal() {
+			int t;
+			do {
+				t = random.nextInt(terminals);
+			} while (t == eof || t == error);
+			return t;
+		}
+
+		int next_int(final int bound) {
+			return random.nextInt(bound);
+		}
+	}
+
+	private static SentenceGenerator generator(final String grammar)
+			throws Exception {
+		final IErrorManager errorManager = new ErrorManager();
+		final Emitter emitter = new cup_emit();
+		final Factories factories = new Factories(errorManager, emitter);
+		final InputStream saved = System.in;
+		final InputStream in = new FileInputStream(new File("src/bench/cup",
+				grammar + ".cup"));
+		try {
+			System.setIn(in);
+			factories.parse_grammar_spec(false, errorManager, emitter,
+					new Timings());
+		} finally {
+			System.setIn(saved);
+			in.close();
+		}
+		return new SentenceGenerator(factories, emitter);
+	}
+
+	private SymbolFactory factory() {
+		return pooled ? new PooledSymbolFactory() : new DefaultSymbolFactory();
+	}
+
+	/** Totals of one pass over a corpus. */
+	private static class Pass {
+		int tokens;
+		int reductions;
+		int errors;
+	}
+
+	/**
+	 * Parse a corpus once, counting the tokens the parser actually read (it
+	 * stops at errors it cannot recover from), reductions and errors.
+	 */
+	private Pass count(final String grammar, final boolean variant,
+			final int[][] corpus) {
+		final Pass pass = new Pass();
+		final CountingSymbolFactory factory = new CountingSymbolFactory();
+		errors = 0;
+		for (final int[] sentence : corpus) {
+			final TokenScanner scanner = new TokenScanner(sentence, factory);
+			try {
+				create(grammar, variant, scanner, factory).parse();
+			} catch (final Exception e) {
+				/* gave up, the tokens read so far count */
+			}
+			pass.tokens += scanner.pos;
+		}
+		pass.reductions = factory.reductions;
+		pass.errors = errors;
+		return pass;
+	}
+
+	private void bench(final String grammar) throws Exception {
+		final SentenceGenerator gen = generator(grammar);
+
+		/* derive the clean corpus, keeping what the parser accepts */
+		final List<int[]> sentences = new ArrayList<int[]>();
+		final SymbolFactory check = new DefaultSymbolFactory();
+		int total = 0;
+		while (total < tokens) {
+			final int[] sentence = gen.sentence(depth);
+			errors = 0;
+			if (parse(grammar, false, sentence, check) && errors == 0) {
+				sentences.add(sentence);
+				total += sentence.length;
+			}
+		}
+		final int[][] clean = sentences.toArray(new int[0][]);
+
+		/* and a copy with one token in every error_rate replaced */
+		final int[][] broken = new int[clean.length][];
+		for (int i = 0; i < clean.length; i++) {
+			broken[i] = clean[i].clone();
+			for (int j = 0; j < broken[i].length; j += error_rate) {
+				final int at = j
+						+ gen.next_int(Math.min(error_rate, broken[i].length
+								- j));
+				int t;
+				do {
+					t = gen.random_terminal();
+				} while (t == broken[i][at] && gen.terminals > 3);
+				broken[i][at] = t;
+			}
+		}
+
+		if (options.length() > 0) {
+			final short[] chain = create(grammar, true, null, check)
+					.chain_productions();
+			untraced = new BitSet();
+			if (chain != null) {
+				for (final short p : chain) {
+					untraced.set(p);
+				}
+			}
+			boolean detection = false;
+			for (final String option : options.split("\\s+")) {
+				detection |= DETECTION_OPTIONS.contains(option);
+			}
+			verify(grammar, "clean", clean, false);
+			verify(grammar, "errors", broken, detection);
+		}
+
+		final double clean_ms = measure(grammar, "clean", clean, -1);
+		measure(grammar, "errors", broken,
+				clean_ms / count(grammar, variant, clean).tokens);
+	}
+
+	/**
+	 * What parsing each sentence of a corpus gives: a hash of whether it was
+	 * accepted, the errors, the tokens read and the productions reduced.
+	 */
+	private long[] outcomes(final String grammar, final boolean variant,
+			final int[][] corpus) {
+		final long[] result = new long[corpus.length];
+		final SymbolFactory factory = new DefaultSymbolFactory();
+		tracing = true;
+		for (int i = 0; i < corpus.length; i++) {
+			final TokenScanner scanner = batch ? new BatchTokenScanner(
+					corpus[i], factory) : new TokenScanner(corpus[i], factory);
+			errors = 0;
+			digest = 17;
+			boolean accepted;
+			try {
+				create(grammar, variant, scanner, factory).parse();
+				accepted = true;
+			} catch (final Exception e) {
+				accepted = false;
+			}
+			result[i] = ((digest * 31 + errors) * 31 + scanner.pos) * 2
+					+ (accepted ? 1 : 0);
+		}
+		tracing = false;
+		return result;
+	}
+
+	/**
+	 * Check that the variant parser of a grammar gives the same results as
+	 * the default one on a corpus, or if report_only just report on how
+	 * many sentences it does not.
+	 */
+	private void verify(final String grammar, final String input,
+			final int[][] corpus, final boolean report_only) {
+		final long[] expected = outcomes(grammar, false, corpus);
+		final long[] actual = outcomes(grammar, true, corpus);
+		int differ = 0;
+		for (int i = 0; i < corpus.length; i++) {
+			if (expected[i] == actual[i]) {
+				continue;
+			}
+			if (!report_only) {
+				throw new IllegalStateException("The " + grammar
+						+ " parser generated with \"" + options
+						+ "\" differs from the default one on sentence " + i
+						+ " of the " + input + " corpus");
+			}
+			differ++;
+		}
+		if (report_only) {
+			System.out.printf("%-8s %-6s %d of %d sentences parsed differently"
+					+ " by the variant (%s)%n", grammar, input, differ,
+					corpus.length, options);
+		}
+	}
+
+	/**
+	 * Time a corpus and print a line of results; returns ms per operation.
+	 * The cost of an error is the time beyond what the tokens read would
+	 * have taken at clean_ms_per_token.
+	 */
+	private double measure(final String grammar, final String input,
+			final int[][] corpus, final double clean_ms_per_token) {
+		final Pass pass = count(grammar, variant, corpus);
+		long time = 0;
+		long bytes = 0;
+		final long a0 = allocated();
+		for (int i = 0; i < warmup + iterations; i++) {
+			final SymbolFactory factory = factory();
+			final long a = allocated();
+			final long start = System.nanoTime();
+			for (final int[] sentence : corpus) {
+				parse(grammar, variant, sentence, factory);
+			}
+			final long elapsed = System.nanoTime() - start;
+			if (i >= warmup) {
+				time += elapsed;
+				bytes += allocated() - a;
+			}
+		}
+		final double ms = time / 1e6 / iterations;
+		final double seconds = ms / 1e3;
+		System.out.printf("%-8s %-6s %9d %9.3f %10.1f %10.1f %8s %9d %9s%n",
+				grammar, input, pass.tokens, ms, pass.tokens / seconds / 1e3,
+				pass.reductions / seconds / 1e3,
+				a0 < 0 ? "n/a" : String.format("%.1f",
+						(double) bytes / iterations / pass.tokens),
+				pass.errors,
+				clean_ms_per_token < 0 || pass.errors == 0 ? "-" : String
+						.format("%.2f", (ms - clean_ms_per_token * pass.tokens)
+								* 1e3 / pass.errors));
+		return ms;
+	}
+}
@@ -0,0 +1,211 @@
+package java_cup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Benchmark for the three phases of the generator pipeline. Each grammar is
+ * run through Factories.parse_grammar_spec(), build_parser() (including the
+ * preceding check_unused()) and emit_parser() on fresh factories for a number
+ * of warmup and measured iterations. For every phase the average wall time,
+ * the bytes allocated by the benchmark thread and the resulting allocation
+ * rate are reported.
+ * <p>
+ *
+ * Grammars are either files or synthetic ones: "-scale n" generates an
+ * expression grammar with n binary operator levels and n statement kinds.
+ * Conflicts are expected and their warnings discarded, so any grammar that
+ * CUP accepts with -expect can be measured. Specifications are read into
+ * memory once, and the generated sources are written to a temporary directory
+ * which is removed afterwards. Allocation is only reported on VMs whose
+ * ThreadMXBean measures it (HotSpot does).
+ * <p>
+ *
+ * Usage:
+ *
+ * <pre>
+ *   java java_cup.PipelineBench [-warmup n] [-iterations n]
+ *                               [-scale n | file.cup] ...
+ * </pre>
+ *
+ * Run it through "ant bench -Dbench.class=java_cup.PipelineBench", which
+ * benchmarks the test grammars (set bench.args to override).
+ */
+public class PipelineBench {
+
+	private static final String[] PHASES = { "parse", "build", "emit" };
+
+	private int warmup = 50;
+	private int iterations = 50;
+
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private File dest_dir;
+
+	public static void main(final String[] argv) throws Exception {
+		new PipelineBench().run(argv);
+	}
+
+	private void run(final String[] argv) throws Exception {
+		dest_dir = File.createTempFile("cupbench", "");
+		if (!dest_dir.delete() || !dest_dir.mkdir()) {
+			throw new Exception("Can't create " + dest_dir);
+		}
+		try {
+			System.out.printf("%-20s %-6s %10s %12s %10s%n", "grammar",
+					"phase", "ms/op", "KB/op", "MB/s");
+			for (int i = 0; i < argv.length; i++) {
+				if (argv[i].equals("-warmup")) {
+					warmup = Integer.parseInt(argv[++i]);
+				} else if (argv[i].equals("-iterations")) {
+					iterations = Integer.parseInt(argv[++i]);
+				} else if (argv[i].equals("-scale")) {
+					final int n = Integer.parseInt(argv[++i]);
+					bench("synthetic-" + n, synthetic(n));
+				} else {
+					bench(new File(argv[i]).getName(), read(argv[i]));
+				}
+			}
+		} finally {
+			final File[] files = dest_dir.listFiles();
+			if (files != null) {
+				for (final File f : files) {
+					f.delete();
+				}
+			}
+			dest_dir.delete();
+		}
+	}
+
+	private static byte[] read(final String file) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final InputStream in = new FileInputStream(file);
+		try {
+			final byte[] buf = new byte[8192];
+			int n;
+			while ((n = in.read(buf)) > 0) {
+				out.write(buf, 0, n);
+			}
+		} finally {
+			in.close();
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Generate a conflict free grammar: a chain of n left-recursive binary
+	 * operator levels below a list of n statement kinds.
+	 */
+	static byte[] synthetic(final int n) {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("terminal SEMI, LPAREN, RPAREN, ID;\n");
+		for (int i = 0; i < n; i++) {
+			sb.append("terminal OP").append(i).append(", KW").append(i)
+					.append(";\n");
+		}
+		sb.append("non terminal program, stmt;\n");
+		for (int i = 0; i <= n; i++) {
+			sb.append("non terminal e").append(i).append(";\n");
+		}
+		sb.append("program ::= program stmt | stmt ;\n");
+		sb.append("stmt ::=");
+		for (int i = 0; i < n; i++) {
+			sb.append(i == 0 ? " " : "\n  | ").append("KW").append(i)
+					.append(" e0 SEMI");
+		}
+		sb.append(" ;\n");
+		for (int i = 0; i < n; i++) {
+			sb.append("e").append(i).append(" ::= e").append(i).append(" OP")
+					.append(i).append(" e").append(i + 1).append(" | e")
+					.append(i + 1).append(" ;\n");
+		}
+		sb.append("e").append(n).append(" ::= ID | LPAREN e0 RPAREN ;\n");
+		return sb.toString().getBytes();
+	}
+
+	/** Bytes allocated so far by this thread, or -1 if not measurable. */
+	private long allocated() {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/** Error manager that drops warnings instead of printing them. */
+	private static class QuietErrorManager extends ErrorManager {
+		@Override
+		public void emit_warning(final String message) {
+		}
+
+		@Override
+		public void emit_warning(final String message,
+				final java_cup.runtime.Symbol sym) {
+		}
+	}
+
+	private void bench(final String name, final byte[] spec) throws Exception {
+		final long[] time = new long[PHASES.length];
+		final long[] bytes = new long[PHASES.length];
+		final long[] t = new long[PHASES.length + 1];
+		final long[] a = new long[PHASES.length + 1];
+		final NullPrintStream nps = new NullPrintStream();
+		final InputStream saved = System.in;
+
+		for (int i = 0; i < warmup + iterations; i++) {
+			final IErrorManager errorManager = new QuietErrorManager();
+			final Emitter emitter = new cup_emit();
+			final Options options = new Options();
+			final ITimings timings = new Timings();
+			options.dest_dir = dest_dir;
+			options.expect_conflicts = Integer.MAX_VALUE;
+			emitter.set_nowarn(true);
+			options.configure(emitter);
+			final Factories factories = new Factories(errorManager, emitter);
+			System.setIn(new ByteArrayInputStream(spec));
+			try {
+				a[0] = allocated();
+				t[0] = System.nanoTime();
+				factories.parse_grammar_spec(false, errorManager, emitter,
+						timings);
+				t[1] = System.nanoTime();
+				a[1] = allocated();
+			} finally {
+				System.setIn(saved);
+			}
+			factories.check_unused(nps, errorManager, emitter, timings);
+			factories.build_parser(nps, errorManager, emitter, options,
+					timings);
+			t[2] = System.nanoTime();
+			a[2] = allocated();
+			if (!factories.emit_parser(nps, options, emitter, errorManager)) {
+				throw new Exception(name + " has errors, nothing emitted");
+			}
+			t[3] = System.nanoTime();
+			a[3] = allocated();
+
+			if (i >= warmup) {
+				for (int p = 0; p < PHASES.length; p++) {
+					time[p] += t[p + 1] - t[p];
+					bytes[p] += a[p + 1] - a[p];
+				}
+			}
+		}
+
+		for (int p = 0; p < PHASES.length; p++) {
+			final double ms = time[p] / 1e6 / iterations;
+			if (a[0] < 0) {
+				System.out.printf("%-20s %-6s %10.3f %12s %10s%n", name,
+						PHASES[p], ms, "n/a", "n/a");
+			} else {
+				System.out.printf("%-20s %-6s %10.3f %12.1f %10.1f%n", name,
+						PHASES[p], ms, bytes[p] / 1024.0 / iterations,
+						bytes[p] / 1e6 / (time[p] / 1e9));
+			}
+		}
+	}
+}
@@ -34,10 +34,18 @@ public abstract class AbstractEmitter implements Emitter {
 
 	protected boolean _locations;
 
+	protected boolean _loc_table;
+
 	protected boolean _lr_values;
 
 	protected boolean _xmlactions;
 
+	protected boolean _parse_stack;
+
+	protected boolean _unboxed;
+
+	protected boolean _chain_units;
+
 	/** User declarations for direct inclusion in user action class. */
 	protected String action_code = null;
 
@@ -113,7 +121,11 @@ public abstract class AbstractEmitter implements Emitter {
 		_genericlabels = false;
 		_xmlactions = false;
 		_locations = false;
+		_loc_table = false;
 		_lr_values = true;
+		_parse_stack = true;
+		_unboxed = false;
+		_chain_units = false;
 		action_code = null;
 		import_list = new Stack<String>();
 		init_code = null;
@@ -161,6 +173,10 @@ public abstract class AbstractEmitter implements Emitter {
 		return _locations;
 	}
 
+	public boolean loc_table() {
+		return _loc_table;
+	}
+
 	public boolean lr_values() {
 		return _lr_values;
 	}
@@ -185,6 +201,10 @@ public abstract class AbstractEmitter implements Emitter {
 		return parser_code;
 	}
 
+	public boolean parse_stack() {
+		return _parse_stack;
+	}
+
 	public long parser_time() {
 		return parser_time;
 	}
@@ -217,6 +237,10 @@ public abstract class AbstractEmitter implements Emitter {
 		_locations = b;
 	}
 
+	public void set_loc_table(final boolean b) {
+		_loc_table = b;
+	}
+
 	public void set_lr_values(final boolean b) {
 		_lr_values = b;
 	}
@@ -241,6 +265,10 @@ public abstract class AbstractEmitter implements Emitter {
 		this.parser_code = parser_code;
 	}
 
+	public void set_parse_stack(final boolean b) {
+		_parse_stack = b;
+	}
+
 	public void set_scan_code(final String scan_code) {
 		this.scan_code = scan_code;
 	}
@@ -302,4 +330,41 @@ public abstract class AbstractEmitter implements Emitter {
 		return prefix + parser_class_name + "$" + str;
 	}
 
+	public boolean unboxed() {
+		return _unboxed;
+	}
+
+	public void set_unboxed(final boolean b) {
+		_unboxed = b;
+	}
+
+	public boolean chain_units() {
+		return _chain_units;
+	}
+
+	public void set_chain_units(final boolean b) {
+		_chain_units = b;
+	}
+
+	public String unboxed_value(String stack_type, int offset) {
+		if (!_unboxed)
+			return null;
+		String at = "(" + pre("top") + (offset == 0 ? "" : "-" + offset)
+				+ ")";
+		if (stack_type.equals("int"))
+			return pre("stack") + ".int_at" + at;
+		if (stack_type.equals("long"))
+			return pre("stack") + ".long_at" + at;
+		if (stack_type.equals("double"))
+			return pre("stack") + ".double_at" + at;
+		if (stack_type.equals("boolean"))
+			return pre("stack") + ".boolean_at" + at;
+		if (stack_type.equals("float"))
+			return "(float)" + pre("stack") + ".double_at" + at;
+		if (stack_type.equals("short") || stack_type.equals("byte")
+				|| stack_type.equals("char"))
+			return "(" + stack_type + ")" + pre("stack") + ".int_at" + at;
+		return null;
+	}
+
 }
\ No newline at end of file
@@ -24,6 +24,12 @@ public interface Emitter {
 
 	public abstract boolean locations();
 
+	/**
+	 * whether actions get positions from a java_cup.runtime.LocationTable
+	 * (unless locations() is set)
+	 */
+	public abstract boolean loc_table();
+
 	/** whether or not to emit code for left and right values */
 	public abstract boolean lr_values();
 
@@ -37,6 +43,9 @@ public interface Emitter {
 
 	public abstract String parser_code();
 
+	/** whether generated actions index java_cup.runtime.ParseStack */
+	public abstract boolean parse_stack();
+
 	public abstract long parser_time();
 
 	/**
@@ -47,6 +56,35 @@ public interface Emitter {
 	 */
 	public abstract String pre(String str);
 
+	/**
+	 * whether non terminals of primitive types keep their values in the value
+	 * column of java_cup.runtime.ParseStack rather than in Symbol.value
+	 */
+	public abstract boolean unboxed();
+
+	public abstract void set_unboxed(boolean b);
+
+	/**
+	 * The expression reading the value of a non terminal of a given type from
+	 * the value column of the parse stack, or null if values of that type are
+	 * not kept there.
+	 * 
+	 * @param stack_type
+	 *            the type of the non terminal.
+	 * @param offset
+	 *            the position of the non terminal below the top of the stack.
+	 */
+	public abstract String unboxed_value(String stack_type, int offset);
+
+	/**
+	 * whether action-less unit productions pass their value on, and the
+	 * runtime reduces with those of non terminals by relabelling the Symbol
+	 * on top of the parse stack
+	 */
+	public abstract boolean chain_units();
+
+	public abstract void set_chain_units(boolean b);
+
 	public abstract long production_table_time();
 
 	public abstract String scan_code();
@@ -63,6 +101,8 @@ public interface Emitter {
 
 	public abstract void set_locations(boolean b);
 
+	public abstract void set_loc_table(boolean b);
+
 	public abstract void set_lr_values(boolean b);
 
 	public abstract void set_nowarn(boolean nowarn);
@@ -75,6 +115,8 @@ public interface Emitter {
 
 	public abstract void set_parser_code(String parser_code);
 
+	public abstract void set_parse_stack(boolean b);
+
 	public abstract void set_scan_code(String scan_code);
 
 	public abstract void set_start_production(production start_production);
@@ -99,8 +99,12 @@ public class Factories {
 		/* build the LR viable prefix recognition machine */
 		pp.println("  Building state machine...");
 
+		lalrStateFactory.set_digraph_lookaheads(options.opt_digraph);
+		lalrStateFactory.set_construction(options.opt_lr1 ? LalrStateFactory.LR1
+				: options.opt_pgm ? LalrStateFactory.PGM : LalrStateFactory.LALR);
 		start_state = lalrStateFactory.build_machine(errorManager,
-				terminalFactory, emitter.start_production());
+				terminalFactory, emitter.start_production(),
+				options.parallel_threads);
 		timings.endStateMachine();
 
 		/* build the LR parser action and reduce-goto tables */
@@ -1,30 +1,45 @@
 package java_cup;
 
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.Stack;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
 public class LalrStateFactory {
 
 	/** Collection of all states. */
 	protected Hashtable<lalr_item_set, lalr_state> _all = new Hashtable<lalr_item_set, lalr_state>();
 
+	/**
+	 * All states in the order they were numbered, when states with equal cores
+	 * may exist (see set_construction()); null otherwise.
+	 */
+	protected Vector<lalr_state> _split = null;
+
 	/** Collection of all states. */
 	public Enumeration<lalr_state> all() {
-		return _all.elements();
+		return _split != null ? _split.elements() : _all.elements();
 	}
 
 	/** Indicate total number of states there are. */
 	public int number() {
-		return _all.size();
+		return _split != null ? _split.size() : _all.size();
 	}
 
 	/**
 	 * Hash table to find states by their kernels (i.e, the original, unclosed,
 	 * set of items -- which uniquely define the state). This table stores state
-	 * objects using (a copy of) their kernel item sets as keys.
+	 * objects using the item numbers of their kernels as keys.
 	 */
-	protected Hashtable<lalr_item_set, lalr_state> _all_kernels = new Hashtable<lalr_item_set, lalr_state>();
+	protected HashMap<item_id_set, lalr_state> _all_kernels = new HashMap<item_id_set, lalr_state>();
 
 	/**
 	 * Find and return state with a given a kernel item set (or null if not
@@ -93,6 +108,11 @@ public class LalrStateFactory {
 	 * used to directly or indirectly create.
 	 */
 	protected void propagate_all_lookaheads() throws internal_error {
+		if (digraph_lookaheads) {
+			digraph_lookaheads();
+			return;
+		}
+
 		/* iterate across all states */
 		for (Enumeration<lalr_state> st = all(); st.hasMoreElements();) {
 			/* propagate lookaheads out of that state */
@@ -100,6 +120,143 @@ public class LalrStateFactory {
 		}
 	}
 
+	/** Compute lookaheads with digraph_lookaheads() instead of propagating. */
+	protected boolean digraph_lookaheads = false;
+
+	/** Compute lookaheads with digraph_lookaheads() instead of propagating. */
+	public void set_digraph_lookaheads(boolean b) {
+		digraph_lookaheads = b;
+	}
+
+	/** Construction merging all states with equal cores (LALR(1)). */
+	public static final int LALR = 0;
+
+	/**
+	 * Construction merging states with equal cores only if they are weakly
+	 * compatible (Pager's PGM).
+	 */
+	public static final int PGM = 1;
+
+	/** Construction merging states only if they are equal (canonical LR(1)). */
+	public static final int LR1 = 2;
+
+	/** How build_machine() merges states: LALR, PGM or LR1. */
+	protected int construction = LALR;
+
+	/** How build_machine() merges states: LALR, PGM or LR1. */
+	public void set_construction(int c) {
+		construction = c;
+	}
+
+	/**
+	 * Compute the same lookaheads as the item by item propagation, using the
+	 * digraph algorithm of DeRemer and Pennello. The final lookahead of an
+	 * item is its initial lookahead plus the final lookaheads of all items
+	 * with a propagate link to it. Reversing the propagate links gives the
+	 * relation to read lookaheads from; a single depth first traversal
+	 * (Tarjan's strongly connected components, done with an explicit stack
+	 * so deep chains don't overflow) unions each item's lookahead exactly
+	 * once per link and gives all items of a cycle the same set, so the
+	 * whole computation is linear in the number of links.
+	 */
+	protected void digraph_lookaheads() throws internal_error {
+		IdentityHashMap<lalr_item, Integer> ids = new IdentityHashMap<lalr_item, Integer>();
+		Vector<lalr_item> items = new Vector<lalr_item>();
+		lalr_item itm;
+		Integer id;
+
+		/* number the items of all states (by identity, as cores repeat) */
+		for (Enumeration<lalr_state> st = all(); st.hasMoreElements();) {
+			for (Enumeration<lalr_item> e = st.nextElement().items().all(); e
+					.hasMoreElements();) {
+				itm = e.nextElement();
+				ids.put(itm, items.size());
+				items.addElement(itm);
+			}
+		}
+		int n = items.size();
+
+		/* collect the reversed links: reads[read_start[x]..] are read by x */
+		int[] read_start = new int[n + 1];
+		int[][] links = new int[n][];
+		for (int x = 0; x < n; x++) {
+			Stack<lalr_item> prop = items.elementAt(x).propagate_items();
+			links[x] = new int[prop.size()];
+			for (int l = 0; l < prop.size(); l++) {
+				/* links to items that ended up in no state are dead ends */
+				id = ids.get(prop.elementAt(l));
+				links[x][l] = id == null ? -1 : id.intValue();
+				if (id != null)
+					read_start[id.intValue() + 1]++;
+			}
+		}
+		for (int x = 0; x < n; x++)
+			read_start[x + 1] += read_start[x];
+		int[] reads = new int[read_start[n]];
+		int[] fill = new int[n];
+		for (int x = 0; x < n; x++)
+			for (int l = 0; l < links[x].length; l++)
+				if (links[x][l] >= 0) {
+					int y = links[x][l];
+					reads[read_start[y] + fill[y]++] = x;
+				}
+		links = null;
+
+		/*
+		 * depth first traversal: low[] is 0 for items not visited yet and
+		 * done for items whose component is complete
+		 */
+		final int done = n + 1;
+		int[] low = new int[n];
+		int[] entry = new int[n];
+		int[] next_read = new int[n];
+		int[] scc = new int[n];
+		int scc_top = 0;
+		int[] path = new int[n];
+		int path_top;
+		for (int root = 0; root < n; root++) {
+			if (low[root] != 0)
+				continue;
+			path_top = 0;
+			path[path_top++] = root;
+			scc[scc_top++] = root;
+			low[root] = entry[root] = scc_top;
+			next_read[root] = read_start[root];
+			while (path_top > 0) {
+				int x = path[path_top - 1];
+				terminal_set look = items.elementAt(x).lookahead();
+				if (next_read[x] < read_start[x + 1]) {
+					int y = reads[next_read[x]++];
+					if (low[y] == 0) {
+						/* read y's lookahead once its traversal is complete */
+						next_read[x]--;
+						path[path_top++] = y;
+						scc[scc_top++] = y;
+						low[y] = entry[y] = scc_top;
+						next_read[y] = read_start[y];
+						continue;
+					}
+					if (low[y] < low[x])
+						low[x] = low[y];
+					look.add(items.elementAt(y).lookahead());
+					continue;
+				}
+
+				/* all reads of x are in, close its component if x is the root */
+				path_top--;
+				if (low[x] == entry[x]) {
+					int z;
+					do {
+						z = scc[--scc_top];
+						low[z] = done;
+						if (z != x)
+							items.elementAt(z).lookahead().add(look);
+					} while (z != x);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Build an LALR viable prefix recognition machine given a start production.
 	 * This method operates by first building a start state from the start
@@ -151,21 +308,24 @@ public class LalrStateFactory {
 		lalr_item_set start_items;
 		lalr_item_set new_items;
 		lalr_item_set linked_items;
-		lalr_item_set kernel;
+		item_id_set kernel;
 		Stack<lalr_state> work_stack = new Stack<lalr_state> ();
 		lalr_state st, new_st;
 		symbol_set outgoing;
-		lalr_item itm, new_itm, existing, fix_itm;
+		lalr_item itm;
 		symbol sym, sym2;
 		Enumeration<lalr_item> i;
 		Enumeration<symbol> s;
-		Enumeration<lalr_item> fix;
 
 		/* sanity check */
 		if (start_prod == null)
 			throw new internal_error(
 					"Attempt to build viable prefix recognizer using a null production");
 
+		if (construction != LALR)
+			return build_split_machine(errorManager, terminalFactory,
+					start_prod);
+
 		/* build item with dot at front of start production and EOF lookahead */
 		start_items = new lalr_item_set(errorManager);
 
@@ -174,8 +334,8 @@ public class LalrStateFactory {
 
 		start_items.add(itm);
 
-		/* create copy the item set to form the kernel */
-		kernel = new lalr_item_set(errorManager, start_items);
+		/* take the item numbers of the item set to form the kernel */
+		kernel = new item_id_set(start_items);
 
 		/* create the closure from that item set */
 		start_items.compute_closure(terminalFactory);
@@ -230,7 +390,7 @@ public class LalrStateFactory {
 				}
 
 				/* use new items as state kernel */
-				kernel = new lalr_item_set(errorManager,new_items);
+				kernel = new item_id_set(new_items);
 
 				/* have we seen this one already? */
 				new_st = (lalr_state) _all_kernels.get(kernel);
@@ -251,25 +411,7 @@ public class LalrStateFactory {
 				}
 				/* otherwise relink propagation to items in existing state */
 				else {
-					/* walk through the items that have links to the new state */
-					for (fix = linked_items.all(); fix.hasMoreElements();) {
-						fix_itm = (lalr_item) fix.nextElement();
-
-						/* look at each propagate link out of that item */
-						for (int l = 0; l < fix_itm.propagate_items().size(); l++) {
-							/* pull out item linked to in the new state */
-							new_itm = (lalr_item) fix_itm.propagate_items()
-									.elementAt(l);
-
-							/* find corresponding item in the existing state */
-							existing = new_st.items().find(new_itm);
-
-							/* fix up the item so it points to the existing set */
-							if (existing != null)
-								fix_itm.propagate_items().setElementAt(
-										existing, l);
-						}
-					}
+					relink_propagation(linked_items, new_st);
 				}
 
 				/* add a transition from current state to that state */
@@ -285,6 +427,428 @@ public class LalrStateFactory {
 		return start_state;
 	}
 
+	/**
+	 * Fix up propagate links when the transition out of a state leads to an
+	 * existing state. The shifted items made for the transition were linked
+	 * to from the items with the symbol after the dot, but they are not used
+	 * since the state already exists; redirect those links to the
+	 * corresponding items of the existing state.
+	 *
+	 * @param linked_items
+	 *            the items that have propagate links to the target state.
+	 * @param new_st
+	 *            the existing state the transition leads to.
+	 */
+	protected void relink_propagation(lalr_item_set linked_items,
+			lalr_state new_st) {
+		lalr_item new_itm, existing, fix_itm;
+		Enumeration<lalr_item> fix;
+
+		/* walk through the items that have links to the new state */
+		for (fix = linked_items.all(); fix.hasMoreElements();) {
+			fix_itm = (lalr_item) fix.nextElement();
+
+			/* look at each propagate link out of that item */
+			for (int l = 0; l < fix_itm.propagate_items().size(); l++) {
+				/* pull out item linked to in the new state */
+				new_itm = (lalr_item) fix_itm.propagate_items().elementAt(l);
+
+				/* find corresponding item in the existing state */
+				existing = new_st.items().find(new_itm);
+
+				/* fix up the item so it points to the existing set */
+				if (existing != null)
+					fix_itm.propagate_items().setElementAt(existing, l);
+			}
+		}
+	}
+
+	/**
+	 * Build a viable prefix recognition machine that keeps apart states with
+	 * equal cores where merging them could cause conflicts (see
+	 * set_construction()). The machine is built as in build_machine(), except
+	 * that every state gets its exact LR(1) lookaheads as it is created: the
+	 * lookaheads of its kernel are those of the items shifted into it, and
+	 * propagation within the state completes those of its closure. A kernel
+	 * reached by a transition goes to the first existing state with the same
+	 * core that it can be merged with; its lookaheads are then added to that
+	 * state's and propagated on at once, so later merges are checked against
+	 * them. Otherwise it becomes a new state.
+	 * <p>
+	 * 
+	 * For LR1 only states with equal lookaheads merge, which gives the
+	 * canonical LR(1) machine. For PGM, states merge if they are weakly
+	 * compatible in the sense of Pager's "A Practical General Method for
+	 * Constructing LR(k) Parsers" (1977): a merge then never leads to a
+	 * reduce/reduce conflict that the canonical machine does not have, while
+	 * most states merge just as in LALR(1). The machine is always built
+	 * serially.
+	 * 
+	 * @param start_prod
+	 *            the start production of the grammar
+	 */
+	protected lalr_state build_split_machine(IErrorManager errorManager,
+			TerminalFactory terminalFactory, production start_prod)
+			throws internal_error {
+		HashMap<item_id_set, Vector<lalr_state>> by_core = new HashMap<item_id_set, Vector<lalr_state>>();
+		Stack<lalr_state> work_stack = new Stack<lalr_state>();
+		lalr_item_set start_items, new_items, linked_items;
+		Vector<lalr_state> same_core;
+		item_id_set kernel;
+		lalr_state start_state, st, new_st;
+		symbol_set outgoing;
+		lalr_item itm;
+		symbol sym;
+		Enumeration<lalr_item> i;
+
+		_split = new Vector<lalr_state>();
+
+		/* build item with dot at front of start production and EOF lookahead */
+		start_items = new lalr_item_set(errorManager);
+		itm = new lalr_item(errorManager, terminalFactory, start_prod);
+		itm.lookahead().add(terminalFactory.EOF);
+		start_items.add(itm);
+
+		kernel = new item_id_set(start_items);
+		start_state = create_split_state(terminalFactory, start_items);
+		same_core = new Vector<lalr_state>();
+		same_core.addElement(start_state);
+		by_core.put(kernel, same_core);
+		work_stack.push(start_state);
+
+		while (!work_stack.empty()) {
+			st = work_stack.pop();
+
+			/* gather up all the symbols that appear before dots */
+			outgoing = new symbol_set(errorManager);
+			for (i = st.items().all(); i.hasMoreElements();) {
+				sym = i.nextElement().symbol_after_dot();
+				if (sym != null)
+					outgoing.add(sym);
+			}
+
+			/* now create a transition out for each individual symbol */
+			for (Enumeration<symbol> s = outgoing.all(); s.hasMoreElements();) {
+				sym = s.nextElement();
+
+				/* shift the matching items to form the kernel of the target */
+				linked_items = new lalr_item_set(errorManager);
+				new_items = new lalr_item_set(errorManager);
+				for (i = st.items().all(); i.hasMoreElements();) {
+					itm = i.nextElement();
+					if (sym.equals(itm.symbol_after_dot())) {
+						new_items.add(itm.shift(errorManager));
+						linked_items.add(itm);
+					}
+				}
+
+				/* look for a state with that core we may merge with */
+				kernel = new item_id_set(new_items);
+				same_core = by_core.get(kernel);
+				new_st = null;
+				if (same_core == null) {
+					same_core = new Vector<lalr_state>();
+					by_core.put(kernel, same_core);
+				} else {
+					for (int k = 0; k < same_core.size() && new_st == null; k++)
+						if (mergeable(same_core.elementAt(k), new_items))
+							new_st = same_core.elementAt(k);
+				}
+
+				if (new_st == null) {
+					/* a state of its own */
+					new_st = create_split_state(terminalFactory, new_items);
+					same_core.addElement(new_st);
+					work_stack.push(new_st);
+				} else {
+					/* merge the lookaheads into the existing state */
+					relink_propagation(linked_items, new_st);
+					for (i = new_items.all(); i.hasMoreElements();) {
+						itm = i.nextElement();
+						new_st.items().find(itm).propagate_lookaheads(
+								itm.lookahead());
+					}
+				}
+
+				/* add a transition from current state to that state */
+				st.add_transition(sym, new_st);
+			}
+		}
+
+		/* lookaheads are complete: only the propagate links are still due */
+		propagate_all_lookaheads();
+
+		return start_state;
+	}
+
+	/**
+	 * Make a state with the closure of a kernel, with exact lookaheads, and
+	 * number it.
+	 * 
+	 * @param itms
+	 *            the kernel items (with their lookaheads).
+	 */
+	protected lalr_state create_split_state(TerminalFactory terminalFactory,
+			lalr_item_set itms) throws internal_error {
+		itms.compute_closure(terminalFactory);
+
+		/* the closure only has links so far, follow them within the state */
+		lalr_state result = new lalr_state(itms);
+		result.propagate_lookaheads();
+
+		result.setIndex(next_index++);
+		_split.addElement(result);
+		return result;
+	}
+
+	/**
+	 * Can a kernel reached by a transition be merged into an existing state
+	 * with the same core (see build_split_machine())? For LR1, every item must
+	 * have the same lookahead in both. For PGM, the two must be weakly
+	 * compatible: for any two distinct items i and j with lookaheads L and M
+	 * in the state and the kernel, L(i) and M(j) as well as L(j) and M(i) are
+	 * disjoint, or L(i) and L(j) or M(i) and M(j) overlap already.
+	 * 
+	 * @param st
+	 *            the existing state.
+	 * @param kernel
+	 *            the items of the kernel.
+	 */
+	protected boolean mergeable(lalr_state st, lalr_item_set kernel)
+			throws internal_error {
+		int n = kernel.size();
+		terminal_set[] l = new terminal_set[n];
+		terminal_set[] m = new terminal_set[n];
+		int k = 0;
+		for (Enumeration<lalr_item> e = kernel.all(); e.hasMoreElements(); k++) {
+			lalr_item itm = e.nextElement();
+			l[k] = st.items().find(itm).lookahead();
+			m[k] = itm.lookahead();
+			if (construction == LR1 && !l[k].equals(m[k]))
+				return false;
+		}
+		if (construction == LR1)
+			return true;
+
+		for (int a = 0; a < n; a++)
+			for (int b = a + 1; b < n; b++)
+				if ((overlap(l[a], m[b]) || overlap(l[b], m[a]))
+						&& !overlap(l[a], l[b]) && !overlap(m[a], m[b]))
+					return false;
+		return true;
+	}
+
+	/** Do two lookahead sets have a terminal in common? */
+	protected static boolean overlap(terminal_set a, terminal_set b) {
+		for (int t = a.next_element(0); t >= 0; t = a.next_element(t + 1))
+			if (b.contains(t))
+				return true;
+		return false;
+	}
+
+	/**
+	 * The work done for one state by a worker thread when the machine is
+	 * built in parallel: the closure of the state's kernel, and for each
+	 * symbol that appears after a dot, the kernel of the state reached under
+	 * that symbol (along with the items that have propagate links to it).
+	 * This is exactly what the serial build_machine() computes for a state
+	 * after popping it, in the same order.
+	 */
+	protected static class Expansion implements Callable<Expansion> {
+		protected final IErrorManager errorManager;
+		protected final TerminalFactory terminalFactory;
+
+		/** The state being expanded; its item set holds only the kernel. */
+		protected final lalr_state state;
+
+		/** The symbols with a transition out of the state. */
+		protected final Vector<symbol> symbols = new Vector<symbol>();
+
+		/** For each symbol, the (to be closed) items of the target state. */
+		protected final Vector<lalr_item_set> targets = new Vector<lalr_item_set>();
+
+		/** For each symbol, the target's kernel for lookup. */
+		protected final Vector<item_id_set> kernels = new Vector<item_id_set>();
+
+		/** For each symbol, the items with propagate links to the target. */
+		protected final Vector<lalr_item_set> links = new Vector<lalr_item_set>();
+
+		protected Expansion(IErrorManager errorManager,
+				TerminalFactory terminalFactory, lalr_state state) {
+			this.errorManager = errorManager;
+			this.terminalFactory = terminalFactory;
+			this.state = state;
+		}
+
+		public Expansion call() throws internal_error {
+			lalr_item_set new_items, linked_items;
+			symbol_set outgoing;
+			lalr_item itm;
+			symbol sym;
+			Enumeration<lalr_item> i;
+
+			/* complete the state's item set */
+			state.items().compute_closure(terminalFactory);
+
+			/* gather up all the symbols that appear before dots */
+			outgoing = new symbol_set(errorManager);
+			for (i = state.items().all(); i.hasMoreElements();) {
+				sym = i.nextElement().symbol_after_dot();
+				if (sym != null)
+					outgoing.add(sym);
+			}
+
+			/* shift the matching items for each symbol to form a kernel */
+			for (Enumeration<symbol> s = outgoing.all(); s.hasMoreElements();) {
+				sym = s.nextElement();
+				linked_items = new lalr_item_set(errorManager);
+				new_items = new lalr_item_set(errorManager);
+				for (i = state.items().all(); i.hasMoreElements();) {
+					itm = i.nextElement();
+					if (sym.equals(itm.symbol_after_dot())) {
+						new_items.add(itm.shift(errorManager));
+						linked_items.add(itm);
+					}
+				}
+				symbols.addElement(sym);
+				targets.addElement(new_items);
+				kernels.addElement(new item_id_set(new_items));
+				links.addElement(linked_items);
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * Build the same machine as build_machine(IErrorManager, TerminalFactory,
+	 * production), using a number of worker threads to compute closures and
+	 * kernels of transitions. Looking up kernels, numbering new states and
+	 * relinking propagation stay on the calling thread and happen in the
+	 * order the serial algorithm uses, so states, their numbers and the
+	 * resulting tables are identical to those of a serial build.
+	 *
+	 * @param start_prod
+	 *            the start production of the grammar
+	 * @param threads
+	 *            the number of worker threads (less than one builds serially).
+	 */
+	public lalr_state build_machine(IErrorManager errorManager,
+			TerminalFactory terminalFactory, production start_prod,
+			int threads) throws internal_error {
+		if (threads < 1 || construction != LALR)
+			return build_machine(errorManager, terminalFactory, start_prod);
+
+		/* sanity check */
+		if (start_prod == null)
+			throw new internal_error(
+					"Attempt to build viable prefix recognizer using a null production");
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads,
+				new ThreadFactory() {
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "cup-build-machine");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		try {
+			/* expansions in state order, and those still to be consumed */
+			Vector<FutureTask<Expansion>> expansions = new Vector<FutureTask<Expansion>>();
+			Stack<FutureTask<Expansion>> work_stack = new Stack<FutureTask<Expansion>>();
+			lalr_item_set start_items;
+			item_id_set kernel;
+			lalr_state start_state, new_st;
+			lalr_item itm;
+			Expansion ex;
+
+			/* build item with dot at front of start production and EOF lookahead */
+			start_items = new lalr_item_set(errorManager);
+			itm = new lalr_item(errorManager, terminalFactory, start_prod);
+			itm.lookahead().add(terminalFactory.EOF);
+			start_items.add(itm);
+
+			kernel = new item_id_set(start_items);
+			start_state = new_pending_state(errorManager, terminalFactory,
+					start_items, pool, expansions, work_stack);
+			_all_kernels.put(kernel, start_state);
+
+			while (!work_stack.empty()) {
+				ex = expansion(work_stack.pop());
+
+				for (int k = 0; k < ex.symbols.size(); k++) {
+					new_st = _all_kernels.get(ex.kernels.elementAt(k));
+					if (new_st == null) {
+						new_st = new_pending_state(errorManager,
+								terminalFactory, ex.targets.elementAt(k), pool,
+								expansions, work_stack);
+						_all_kernels.put(ex.kernels.elementAt(k), new_st);
+					} else {
+						/* the existing state must be closed before relinking */
+						expansion(expansions.elementAt(new_st.index()));
+						relink_propagation(ex.links.elementAt(k), new_st);
+					}
+					ex.state.add_transition(ex.symbols.elementAt(k), new_st);
+				}
+			}
+
+			/* enter the (now closed) states in the order they were numbered */
+			for (int k = 0; k < expansions.size(); k++) {
+				new_st = expansion(expansions.elementAt(k)).state;
+				_all.put(new_st.items(), new_st);
+			}
+
+			propagate_all_lookaheads();
+
+			return start_state;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Number a new state whose items are only its kernel, and hand its
+	 * expansion to the worker pool. The state is entered in the collection of
+	 * all states once its closure is known.
+	 */
+	protected lalr_state new_pending_state(IErrorManager errorManager,
+			TerminalFactory terminalFactory, lalr_item_set kernel_items,
+			ExecutorService pool, Vector<FutureTask<Expansion>> expansions,
+			Stack<FutureTask<Expansion>> work_stack) throws internal_error {
+		lalr_state result = new lalr_state(kernel_items);
+		result.setIndex(next_index++);
+
+		FutureTask<Expansion> task = new FutureTask<Expansion>(new Expansion(
+				errorManager, terminalFactory, result));
+		expansions.addElement(task);
+		work_stack.push(task);
+		pool.execute(task);
+		return result;
+	}
+
+	/**
+	 * Wait for an expansion to finish, running it on the calling thread if no
+	 * worker has started it yet.
+	 */
+	protected Expansion expansion(FutureTask<Expansion> task)
+			throws internal_error {
+		task.run();
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new internal_error("Interrupted while building the state machine");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof internal_error)
+				throw (internal_error) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new internal_error(String.valueOf(cause));
+		}
+	}
+
 	public lalr_state createLalrState(lalr_item_set itms)
 			throws internal_error {
 		/* don't allow null or duplicate item sets */
@@ -34,6 +34,33 @@ import java.io.PrintStream;
  * <dd>number of conflicts expected/allowed [default 0]
  * <dt>-compact_red
  * <dd>compact tables by defaulting to most frequent reduce
+ * <dt>-dense_actions
+ * <dd>emit a directly indexed action table (larger, faster lookup)
+ * <dt>-comb_reduce
+ * <dd>pack the reduce-goto table by row displacement
+ * <dt>-binary_tables
+ * <dd>write the parse tables to a binary resource named after the parser
+ * class, loaded (memory mapped where possible) when the parser class is
+ * initialized, rather than into string literals
+ * <dt>-split_actions
+ * <dd>emit the action code of each production as a method of its own, with
+ * the action number dispatched to them in steps of 32, so that no action
+ * method exceeds the size the JIT compiles (not with -xmlactions)
+ * <dt>-consistent
+ * <dd>list the states that have no shifts and a single reduction, so that the
+ * runtime reduces there without reading (or looking up) the next token
+ * <dt>-parallel #
+ * <dd>build the state machine using # worker threads [default 0]
+ * <dt>-digraph
+ * <dd>compute lookaheads in one pass over the propagate links
+ * <dt>-pgm
+ * <dd>merge states with equal cores only if they are weakly compatible
+ * (Pager's PGM), so that no reduce/reduce conflicts arise that an LR(1) parser
+ * would not have, at the cost of a few more states than LALR(1) (builds the
+ * machine serially)
+ * <dt>-lr1
+ * <dd>build the canonical LR(1) machine, merging only equal states (builds the
+ * machine serially)
  * <dt>-nowarn
  * <dd>don't warn about useless productions, etc.
  * <dt>-nosummary
@@ -56,9 +83,27 @@ import java.io.PrintStream;
  * <dd>don't generate the positions code
  * <dt>-locations
  * <dd>generate handles xleft/xright for symbol positions in actions
+ * <dt>-loc_table
+ * <dd>generate handles xleft/xright that are materialized from the parser's
+ * java_cup.runtime.LocationTable, in the actions that use them (ignored with
+ * -locations)
  * <dt>-noscanner
  * <dd>don't refer to java_cup.runtime.Scanner in the parser (for compatibility
  * with old runtimes)
+ * <dt>-legacy_stack
+ * <dd>have actions index a java.util.Stack rather than the primitive
+ * java_cup.runtime.ParseStack (for runtimes that don't provide it; the
+ * runtime then keeps both stacks in step)
+ * <dt>-unboxed
+ * <dd>keep the values of non terminals of primitive types (int, double,
+ * boolean, ...) in the java_cup.runtime.ParseStack instead of boxing them into
+ * Symbol.value (not with -legacy_stack)
+ * <dt>-chain_units
+ * <dd>give unit productions without action code (like <code>expr ::= term</code>)
+ * the value of their right hand side when its type is that of the left hand
+ * side, and have the runtime reduce with those of a non terminal by relabelling
+ * the Symbol on top of the stack in place instead of creating a new one (so a
+ * ComplexSymbol keeps the name of the right hand side)
  * <dt>-version
  * <dd>print version information for JavaCUP and halt.
  * </dl>
@@ -127,10 +172,7 @@ public class Main {
 		/*
 		 * frankf 6/18/96 hackish, yes, but works
 		 */
-		emitter.set_lr_values(options.lr_values);
-		emitter.set_locations(options.locations);
-		emitter.set_xmlactions(options.xmlactions);
-		emitter.set_genericlabels(options.genericlabels);
+		options.configure(emitter);
 		/* open output set_xmlactionsfiles */
 
 		progressStream.println("Opening files...");
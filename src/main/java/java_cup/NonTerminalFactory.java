@@ -16,6 +16,7 @@ public class NonTerminalFactory {
 		/* compute first sets of all non terminals */
 		pp.println("  Computing first sets...");
 		compute_first_sets();
+		prepare_closure(productionFactory);
 		timings.endFirstSets();
 	}
 
@@ -133,29 +134,136 @@ public class NonTerminalFactory {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
-	/** Compute nullability of all non-terminals. */
-	public void compute_nullability(ProductionFactory productionFactory)
-			throws internal_error {
-		boolean change = true;
-		non_terminal nt;
-		production prod;
+	/**
+	 * The non-terminals and their productions as the nullability and first set
+	 * computations see them: non-terminals numbered in all() order, and the
+	 * productions of each, with the right hand side symbols of every
+	 * production numbered as well (-1 for terminals and for non-terminals
+	 * that are not among all(), which never become nullable or get a first
+	 * set).
+	 */
+	private static class Grammar {
+		final non_terminal[] nts;
+		final production[] prods;
+		/** Number of the non terminal on the left of each production. */
+		final int[] lhs;
+		/** Numbers of the right hand side symbols of each production. */
+		final int[][] rhs;
+
+		Grammar(NonTerminalFactory factory) throws internal_error {
+			Hashtable<non_terminal, Integer> ids = new Hashtable<non_terminal, Integer>();
+			nts = new non_terminal[factory.number()];
+			int n = 0, np = 0;
+			for (Enumeration<non_terminal> e = factory.all(); e
+					.hasMoreElements();) {
+				nts[n] = e.nextElement();
+				ids.put(nts[n], n);
+				np += nts[n].num_productions();
+				n++;
+			}
 
-		/* repeat this process until there is no change */
-		while (change) {
-			/* look for a new change */
-			change = false;
+			prods = new production[np];
+			lhs = new int[np];
+			rhs = new int[np][];
+			np = 0;
+			for (int a = 0; a < n; a++) {
+				for (Enumeration<production> e = nts[a].productions(); e
+						.hasMoreElements();) {
+					production prod = e.nextElement();
+					int[] syms = new int[prod.rhs_length()];
+					int len = 0;
+					for (int pos = 0; pos < prod.rhs_length(); pos++) {
+						production_part part = prod.rhs(pos);
+						if (part.is_action())
+							continue;
+						symbol sym = ((symbol_part) part).the_symbol();
+						Integer id = sym.is_non_term() ? ids.get(sym) : null;
+						syms[len++] = id == null ? -1 : id.intValue();
+					}
+					prods[np] = prod;
+					lhs[np] = a;
+					rhs[np] = len == syms.length ? syms : copy(syms, len);
+					np++;
+				}
+			}
+		}
 
-			/* consider each non-terminal */
-			for (Enumeration<non_terminal> e = all(); e.hasMoreElements();) {
-				nt = e.nextElement();
+		private static int[] copy(int[] a, int len) {
+			int[] result = new int[len];
+			System.arraycopy(a, 0, result, 0, len);
+			return result;
+		}
 
-				/* only look at things that aren't already marked nullable */
-				if (!nt.nullable()) {
-					if (nt.looks_nullable()) {
-						nt._nullable = true;
-						change = true;
+		/**
+		 * Invert a relation given as lists of targets: for each non-terminal,
+		 * the sources listing it (once per listing).
+		 */
+		int[][] invert(int[][] rel) {
+			int[] count = new int[nts.length];
+			for (int k = 0; k < rel.length; k++)
+				for (int j = 0; j < rel[k].length; j++)
+					if (rel[k][j] >= 0)
+						count[rel[k][j]]++;
+			int[][] result = new int[nts.length][];
+			for (int a = 0; a < nts.length; a++)
+				result[a] = new int[count[a]];
+			for (int k = 0; k < rel.length; k++)
+				for (int j = 0; j < rel[k].length; j++)
+					if (rel[k][j] >= 0) {
+						int a = rel[k][j];
+						result[a][result[a].length - count[a]--] = k;
 					}
+			return result;
+		}
+	}
+
+	/** Numbered grammar left by compute_nullability() for compute_first_sets(). */
+	private Grammar grammar;
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Compute nullability of all non-terminals. Rather than re-examining every
+	 * production until nothing changes, each production counts the non
+	 * terminals on its right hand side that are not known to be nullable yet;
+	 * whenever a non-terminal becomes nullable only the productions using it
+	 * are updated, and a production whose count drops to zero makes its left
+	 * hand side nullable. Each symbol occurrence is looked at a constant number
+	 * of times.
+	 */
+	public void compute_nullability(ProductionFactory productionFactory)
+			throws internal_error {
+		Grammar g = grammar = new Grammar(this);
+		int[][] uses = g.invert(g.rhs);
+		int[] blocked = new int[g.prods.length];
+		int[] work = new int[g.prods.length];
+		int work_top = 0;
+		production prod;
+
+		/* count what keeps each production from being nullable */
+		for (int k = 0; k < g.prods.length; k++) {
+			for (int j = 0; j < g.rhs[k].length; j++) {
+				/* terminals (and outside non terminals) block it for good */
+				if (g.rhs[k][j] < 0) {
+					blocked[k] = -1;
+					break;
 				}
+				blocked[k]++;
+			}
+			if (blocked[k] == 0)
+				work[work_top++] = k;
+		}
+
+		/* make left hand sides of unblocked productions nullable */
+		while (work_top > 0) {
+			int a = g.lhs[work[--work_top]];
+			if (g.nts[a]._nullable)
+				continue;
+			g.nts[a]._nullable = true;
+			for (int u = 0; u < uses[a].length; u++) {
+				int k = uses[a][u];
+				if (blocked[k] > 0 && --blocked[k] == 0)
+					work[work_top++] = k;
 			}
 		}
 
@@ -167,42 +275,92 @@ public class NonTerminalFactory {
 		}
 	}
 
+	/**
+	 * Precompute what closing item sets asks for over and over: the first sets
+	 * of all right hand side suffixes, and the production arrays and closure
+	 * templates of all non-terminals. This assumes first sets have already
+	 * been computed.
+	 */
+	public void prepare_closure(ProductionFactory productionFactory)
+			throws internal_error {
+		for (Enumeration<production> e = productionFactory.all(); e
+				.hasMoreElements();)
+			e.nextElement().compute_suffix_sets();
+		for (Enumeration<non_terminal> e = all(); e.hasMoreElements();)
+			e.nextElement().compute_closure_templates(errorManager,
+					terminalFactory);
+	}
+
 	/**
 	 * Compute first sets for all non-terminals. This assumes nullability has
-	 * already computed.
+	 * already computed. The first set of a non-terminal holds the terminals
+	 * that start its productions directly, plus the first sets of the non
+	 * terminals that start them (through any nullable prefix). Those
+	 * inclusions form a graph that is worked through with a worklist: a
+	 * non-terminal is revisited only when a set it includes has grown. The
+	 * productions' first sets are filled in once at the end.
 	 */
 	public void compute_first_sets() throws internal_error {
-		boolean change = true;
-		Enumeration<non_terminal> n;
-		Enumeration<production> p;
-		non_terminal nt;
-		production prod;
-		terminal_set prod_first;
-
-		/* repeat this process until we have no change */
-		while (change) {
-			/* look for a new change */
-			change = false;
-
-			/* consider each non-terminal */
-			for (n = all(); n.hasMoreElements();) {
-				nt = (non_terminal) n.nextElement();
+		Grammar g = grammar != null ? grammar : new Grammar(this);
+		grammar = null;
+		int[][] starts = new int[g.prods.length][];
+		boolean[] queued = new boolean[g.nts.length];
+		int[] work = new int[g.nts.length];
+		int work_top = 0;
+
+		/* seed with the terminals starting each production */
+		for (int k = 0; k < g.prods.length; k++) {
+			production prod = g.prods[k];
+			int len = 0;
+			starts[k] = new int[g.rhs[k].length];
+			for (int pos = 0; pos < prod.rhs_length(); pos++) {
+				production_part part = prod.rhs(pos);
+				if (part.is_action())
+					continue;
+				symbol sym = ((symbol_part) part).the_symbol();
+				if (!sym.is_non_term()) {
+					g.nts[g.lhs[k]]._first_set.add((terminal) sym);
+					break;
+				}
+				int x = g.rhs[k][len];
+				if (x < 0)
+					break;
+				/* the lhs includes the first set of x */
+				starts[k][len++] = x;
+				if (!g.nts[x].nullable())
+					break;
+			}
+			int[] used = new int[len];
+			System.arraycopy(starts[k], 0, used, 0, len);
+			starts[k] = used;
+		}
 
-				/* consider every production of that non terminal */
-				for (p = nt.productions(); p.hasMoreElements();) {
-					prod = (production) p.nextElement();
+		/* for each non terminal, the productions starting with it */
+		int[][] started = g.invert(starts);
 
-					/* get the updated first of that production */
-					prod_first = prod.check_first_set();
+		for (int a = 0; a < g.nts.length; a++)
+			if (!g.nts[a]._first_set.empty()) {
+				queued[a] = true;
+				work[work_top++] = a;
+			}
 
-					/* if this going to add anything, add it */
-					if (!prod_first.is_subset_of(nt._first_set)) {
-						change = true;
-						nt._first_set.add(prod_first);
-					}
+		/* push grown first sets into the non terminals that include them */
+		while (work_top > 0) {
+			int x = work[--work_top];
+			queued[x] = false;
+			for (int u = 0; u < started[x].length; u++) {
+				int a = g.lhs[started[x][u]];
+				if (g.nts[a]._first_set.add(g.nts[x]._first_set)
+						&& !queued[a]) {
+					queued[a] = true;
+					work[work_top++] = a;
 				}
 			}
 		}
+
+		/* now the first sets of the productions */
+		for (int k = 0; k < g.prods.length; k++)
+			g.prods[k].check_first_set();
 	}
 
 	public non_terminal createNonTerminal(String nm, String tp) {
@@ -22,6 +22,31 @@ public class Options {
 	 * default action
 	 */
 	public boolean opt_compact_red = false;
+	/**
+	 * User option -- do we emit a directly indexed (state by terminal) action
+	 * table instead of the packed one
+	 */
+	public boolean opt_dense_actions = false;
+	/**
+	 * User option -- do we pack the reduce-goto table into a row-displacement
+	 * comb vector
+	 */
+	public boolean opt_comb_reduce = false;
+	/**
+	 * User option -- do we write the parse tables to a binary resource
+	 * rather than into string literals in the parser class
+	 */
+	public boolean opt_binary_tables = false;
+	/**
+	 * User option -- do we give every production's action a method of its
+	 * own, dispatched to in small steps, instead of a few huge switches
+	 */
+	public boolean opt_split_actions = false;
+	/**
+	 * User option -- do we tell the runtime which states reduce whatever the
+	 * lookahead, so that it reduces there without reading one
+	 */
+	public boolean opt_consistent = false;
 	/**
 	 * User option -- should we include non terminal symbol numbers in the
 	 * symbol constant class.
@@ -34,6 +59,11 @@ public class Options {
 	/** User option -- should generator generate code for left/right values? */
 	public boolean lr_values = true;
 	public boolean locations = false;
+	/**
+	 * User option -- do actions materialize xleft/xright from the parser's
+	 * java_cup.runtime.LocationTable (only where they use them)?
+	 */
+	public boolean loc_table = false;
 	public boolean xmlactions = false;
 	public boolean genericlabels = false;
 	/** User option -- should symbols be put in a class or an interface? [CSA] */
@@ -43,6 +73,42 @@ public class Options {
 	 * java_cup.runtime.Scanner for compatibility with old runtimes?
 	 */
 	public boolean suppress_scanner = false;
+	/**
+	 * User option -- should generated actions index a java.util.Stack, as
+	 * they did before java_cup.runtime.ParseStack?
+	 */
+	public boolean legacy_stack = false;
+	/**
+	 * User option -- should non terminals of primitive types keep their values
+	 * in the java_cup.runtime.ParseStack rather than boxed in Symbol.value?
+	 */
+	public boolean unboxed = false;
+	/**
+	 * User option -- should action-less unit productions pass their value on,
+	 * and the runtime reduce with those of a non terminal by relabelling the
+	 * Symbol on the stack?
+	 */
+	public boolean chain_units = false;
+	/**
+	 * User option -- number of worker threads used to build the state machine
+	 * (0 builds it serially)
+	 */
+	public int parallel_threads = 0;
+	/**
+	 * User option -- do we compute lookaheads with the digraph algorithm
+	 * rather than by propagating them item by item
+	 */
+	public boolean opt_digraph = false;
+	/**
+	 * User option -- do we keep apart states with equal cores that are not
+	 * weakly compatible (Pager's PGM), rather than building LALR(1) states
+	 */
+	public boolean opt_pgm = false;
+	/**
+	 * User option -- do we build the canonical LR(1) machine rather than
+	 * LALR(1) states (overrides opt_pgm)
+	 */
+	public boolean opt_lr1 = false;
 
 	/**
 	 * Print a "usage message" that described possible command line options,
@@ -72,13 +138,26 @@ public class Options {
 						+ "    -nonterms      put non terminals in symbol constant class\n"
 						+ "    -expect #      number of conflicts expected/allowed [default 0]\n"
 						+ "    -compact_red   compact tables by defaulting to most frequent reduce\n"
+						+ "    -dense_actions emit a directly indexed action table (larger, faster lookup)\n"
+						+ "    -comb_reduce   pack the reduce-goto table by row displacement\n"
+						+ "    -binary_tables load the parse tables from a resource instead of strings\n"
+						+ "    -split_actions emit a method per production action (JIT compilable)\n"
+						+ "    -consistent    reduce in single-reduce states without reading the lookahead\n"
+						+ "    -parallel #    build the state machine using # worker threads [default 0]\n"
+						+ "    -digraph       compute lookaheads in one pass over the propagate links\n"
+						+ "    -pgm           split LALR states where merging adds conflicts (Pager's PGM)\n"
+						+ "    -lr1           build the canonical LR(1) machine instead of LALR(1)\n"
 						+ "    -nowarn        don't warn about useless productions, etc.\n"
 						+ "    -nosummary     don't print the usual summary of parse states, etc.\n"
 						+ "    -nopositions   don't propagate the left and right token position values\n"
 						+ "    -locations     generate handles xleft/xright for symbol positions in actions\n"
+						+ "    -loc_table     build xleft/xright from the parser's LocationTable on use\n"
 						+ "    -xmlactions    make the generated parser yield its parse tree as XML\n"
 						+ "    -genericlabels automatically generate labels to all symbols in XML mode\n"
 						+ "    -noscanner     don't refer to java_cup.runtime.Scanner\n"
+						+ "    -legacy_stack  index a java.util.Stack in actions (for runtimes without ParseStack)\n"
+						+ "    -unboxed       keep primitive non terminal values in the ParseStack\n"
+						+ "    -chain_units   pass values through action-less unit productions, relabelling non terminal Symbols\n"
 						+ "    -progress      print messages to indicate progress of the system\n"
 						+ "    -time          print time usage summary\n"
 						+ "    -dump_grammar  produce a human readable dump of the symbols and grammar\n"
@@ -151,8 +230,36 @@ public class Options {
 				} catch (NumberFormatException e) {
 					usage("-expect must be followed by a decimal integer");
 				}
+			} else if (argv[i].equals("-parallel")) {
+				/* must have an arg */
+				if (++i >= len || argv[i].startsWith("-")
+						|| argv[i].endsWith(".cup"))
+					usage("-parallel must have a number argument");
+	
+				/* record the number */
+				try {
+					parallel_threads = Integer.parseInt(argv[i]);
+				} catch (NumberFormatException e) {
+					usage("-parallel must be followed by a decimal integer");
+				}
 			} else if (argv[i].equals("-compact_red"))
 				opt_compact_red = true;
+			else if (argv[i].equals("-dense_actions"))
+				opt_dense_actions = true;
+			else if (argv[i].equals("-comb_reduce"))
+				opt_comb_reduce = true;
+			else if (argv[i].equals("-binary_tables"))
+				opt_binary_tables = true;
+			else if (argv[i].equals("-split_actions"))
+				opt_split_actions = true;
+			else if (argv[i].equals("-consistent"))
+				opt_consistent = true;
+			else if (argv[i].equals("-digraph"))
+				opt_digraph = true;
+			else if (argv[i].equals("-pgm"))
+				opt_pgm = true;
+			else if (argv[i].equals("-lr1"))
+				opt_lr1 = true;
 			else if (argv[i].equals("-nosummary"))
 				no_summary = true;
 			else if (argv[i].equals("-nowarn"))
@@ -176,6 +283,8 @@ public class Options {
 				lr_values = false;
 			else if (argv[i].equals("-locations"))
 				locations = true;
+			else if (argv[i].equals("-loc_table"))
+				loc_table = true;
 			else if (argv[i].equals("-xmlactions"))
 				xmlactions = true;
 			else if (argv[i].equals("-genericlabels"))
@@ -186,6 +295,12 @@ public class Options {
 			/* CSA 23-Jul-1999 */
 			else if (argv[i].equals("-noscanner"))
 				suppress_scanner = true;
+			else if (argv[i].equals("-legacy_stack"))
+				legacy_stack = true;
+			else if (argv[i].equals("-unboxed"))
+				unboxed = true;
+			else if (argv[i].equals("-chain_units"))
+				chain_units = true;
 			/* CSA 23-Jul-1999 */
 			else if (argv[i].equals("-version")) {
 				System.out.println(version.title_str);
@@ -213,6 +328,10 @@ public class Options {
 				usage("Unrecognized option \"" + argv[i] + "\"");
 			}
 		}
+
+		/* unboxed values live in the ParseStack */
+		if (unboxed && legacy_stack)
+			usage("-unboxed cannot be combined with -legacy_stack");
 	}
 
 	public Options() {
@@ -223,4 +342,19 @@ public class Options {
 		this();
 		parse_args(argv, emitter);
 	}
+
+	/**
+	 * Hands the options that decide the form of the generated actions over to
+	 * the emitter.
+	 */
+	public void configure(Emitter emitter) {
+		emitter.set_lr_values(lr_values);
+		emitter.set_locations(locations);
+		emitter.set_loc_table(loc_table);
+		emitter.set_xmlactions(xmlactions);
+		emitter.set_genericlabels(genericlabels);
+		emitter.set_parse_stack(!legacy_stack);
+		emitter.set_unboxed(unboxed);
+		emitter.set_chain_units(chain_units);
+	}
 }
\ No newline at end of file
@@ -29,6 +29,14 @@ public class ProductionFactory {
 	/** Static counter for assigning unique index numbers. */
 	protected int next_index;
 
+	/** Counter for numbering the LR items of all productions. */
+	protected int next_item_base;
+
+	/** Total number of LR items (over all dot positions of all productions). */
+	public int item_number() {
+		return next_item_base;
+	}
+
 	/**
 	 * Determine if a given character can be a label id starter.
 	 * 
@@ -105,6 +113,10 @@ public class ProductionFactory {
 		/* assign an index */
 		prod.setIndex(next_index++);
 
+		/* and number its items */
+		prod.setItemBase(next_item_base);
+		next_item_base += prod.rhs_length() + 1;
+
 		/* put us in the global collection of productions */
 		_all.put(new Integer(prod.index()), prod);
 
@@ -46,6 +46,15 @@ public class CUPTask extends Task
     private boolean nonterms=false;
     private String expect=null;
     private boolean compact_red=false;
+    private boolean dense_actions=false;
+    private boolean comb_reduce=false;
+    private boolean binary_tables=false;
+    private boolean split_actions=false;
+    private boolean consistent=false;
+    private boolean digraph=false;
+    private boolean pgm=false;
+    private boolean lr1=false;
+    private String parallel=null;
     private boolean nowarn=false;
     private boolean nosummary=false;
     private boolean progress=false;
@@ -59,7 +68,11 @@ public class CUPTask extends Task
     private boolean xmlactions=false;
     private boolean genericlabels=false;
     private boolean locations=true;
+    private boolean loc_table=false;
     private boolean noscanner=false;
+    private boolean legacy_stack=false;
+    private boolean unboxed=false;
+    private boolean chain_units=false;
     private boolean force=false;
     private boolean quiet=false;
   
@@ -82,6 +95,15 @@ public class CUPTask extends Task
 	if (_interface)    {  sc.add("-interface"); }
 	if (nonterms)      {  sc.add("-nonterms"); }
 	if (compact_red)   {  sc.add("-compact_red"); }
+	if (dense_actions) {  sc.add("-dense_actions"); }
+	if (comb_reduce)   {  sc.add("-comb_reduce"); }
+	if (binary_tables) {  sc.add("-binary_tables"); }
+	if (split_actions) {  sc.add("-split_actions"); }
+	if (consistent)    {  sc.add("-consistent"); }
+	if (digraph)       {  sc.add("-digraph"); }
+	if (pgm)           {  sc.add("-pgm"); }
+	if (lr1)           {  sc.add("-lr1"); }
+	if (parallel!=null){  sc.add("-parallel"); sc.add(parallel); }
 	if (nowarn)        {  sc.add("-nowarn"); }
 	if (nosummary)     {  sc.add("-nosummary");}
 	if (progress)      {  sc.add("-progress"); }
@@ -93,9 +115,13 @@ public class CUPTask extends Task
 	if (debug)         {  sc.add("-debug"); }
 	if (nopositions)   {  sc.add("-nopositions"); }
 	if (locations)     {  sc.add("-locations"); }
+	if (loc_table)     {  sc.add("-loc_table"); }
 	if (genericlabels) {  sc.add("-genericlabels"); }
 	if (xmlactions)    {  sc.add("-xmlactions"); }
 	if (noscanner)     {  sc.add("-noscanner"); }
+	if (legacy_stack)  {  sc.add("-legacy_stack"); }
+	if (unboxed)       {  sc.add("-unboxed"); }
+	if (chain_units)   {  sc.add("-chain_units"); }
 	if (!quiet) log ("This is "+version.title_str);
         if (!quiet) log ("Authors : "+version.author_str);
 	if (!quiet) log ("Bugreports to petter@cs.tum.edu");
@@ -388,6 +414,168 @@ public class CUPTask extends Task
 	this.compact_red = argCompact_red;
     }
 
+    /**
+     * Gets the value of dense_actions
+     *
+     * @return the value of dense_actions
+     */
+    public boolean isDense_actions() {
+	return this.dense_actions;
+    }
+
+    /**
+     * Sets the value of dense_actions
+     *
+     * @param argDense_actions Value to assign to this.dense_actions
+     */
+    public void setDense_actions(boolean argDense_actions){
+	this.dense_actions = argDense_actions;
+    }
+
+    /**
+     * Gets the value of comb_reduce
+     *
+     * @return the value of comb_reduce
+     */
+    public boolean isComb_reduce() {
+	return this.comb_reduce;
+    }
+
+    /**
+     * Sets the value of comb_reduce
+     *
+     * @param argComb_reduce Value to assign to this.comb_reduce
+     */
+    public void setComb_reduce(boolean argComb_reduce){
+	this.comb_reduce = argComb_reduce;
+    }
+
+    /**
+     * Gets the value of binary_tables
+     *
+     * @return the value of binary_tables
+     */
+    public boolean isBinary_tables() {
+	return this.binary_tables;
+    }
+
+    /**
+     * Sets the value of binary_tables
+     *
+     * @param argBinary_tables Value to assign to this.binary_tables
+     */
+    public void setBinary_tables(boolean argBinary_tables){
+	this.binary_tables = argBinary_tables;
+    }
+
+    /**
+     * Gets the value of split_actions
+     *
+     * @return the value of split_actions
+     */
+    public boolean isSplit_actions() {
+	return this.split_actions;
+    }
+
+    /**
+     * Sets the value of split_actions
+     *
+     * @param argSplit_actions Value to assign to this.split_actions
+     */
+    public void setSplit_actions(boolean argSplit_actions){
+	this.split_actions = argSplit_actions;
+    }
+
+    /**
+     * Gets the value of consistent
+     *
+     * @return the value of consistent
+     */
+    public boolean isConsistent() {
+	return this.consistent;
+    }
+
+    /**
+     * Sets the value of consistent
+     *
+     * @param argConsistent Value to assign to this.consistent
+     */
+    public void setConsistent(boolean argConsistent){
+	this.consistent = argConsistent;
+    }
+
+    /**
+     * Gets the value of digraph
+     *
+     * @return the value of digraph
+     */
+    public boolean isDigraph() {
+	return this.digraph;
+    }
+
+    /**
+     * Sets the value of digraph
+     *
+     * @param argDigraph Value to assign to this.digraph
+     */
+    public void setDigraph(boolean argDigraph){
+	this.digraph = argDigraph;
+    }
+
+    /**
+     * Gets the value of pgm
+     *
+     * @return the value of pgm
+     */
+    public boolean isPgm() {
+	return this.pgm;
+    }
+
+    /**
+     * Sets the value of pgm
+     *
+     * @param argPgm Value to assign to this.pgm
+     */
+    public void setPgm(boolean argPgm){
+	this.pgm = argPgm;
+    }
+
+    /**
+     * Gets the value of lr1
+     *
+     * @return the value of lr1
+     */
+    public boolean isLr1() {
+	return this.lr1;
+    }
+
+    /**
+     * Sets the value of lr1
+     *
+     * @param argLr1 Value to assign to this.lr1
+     */
+    public void setLr1(boolean argLr1){
+	this.lr1 = argLr1;
+    }
+
+    /**
+     * Gets the value of parallel
+     *
+     * @return the value of parallel
+     */
+    public String getParallel() {
+	return this.parallel;
+    }
+
+    /**
+     * Sets the value of parallel
+     *
+     * @param argParallel Value to assign to this.parallel
+     */
+    public void setParallel(String argParallel){
+	this.parallel = argParallel;
+    }
+
     /**
      * Gets the value of nowarn
      *
@@ -585,6 +773,24 @@ public class CUPTask extends Task
 	this.locations = argLocations;
     }
 
+    /**
+     * Gets the value of loc_table
+     *
+     * @return the value of loc_table
+     */
+    public boolean isLoc_table() {
+	return this.loc_table;
+    }
+
+    /**
+     * Sets the value of loc_table
+     *
+     * @param argLoc_table Value to assign to this.loc_table
+     */
+    public void setLoc_table(boolean argLoc_table){
+	this.loc_table = argLoc_table;
+    }
+
     /**
      * Gets the value of noscanner
      *
@@ -603,6 +809,60 @@ public class CUPTask extends Task
 	this.noscanner = argNoscanner;
     }
 
+    /**
+     * Gets the value of legacy_stack
+     *
+     * @return the value of legacy_stack
+     */
+    public boolean isLegacy_stack() {
+	return this.legacy_stack;
+    }
+
+    /**
+     * Sets the value of legacy_stack
+     *
+     * @param argLegacy_stack Value to assign to this.legacy_stack
+     */
+    public void setLegacy_stack(boolean argLegacy_stack){
+	this.legacy_stack = argLegacy_stack;
+    }
+
+    /**
+     * Gets the value of unboxed
+     *
+     * @return the value of unboxed
+     */
+    public boolean isUnboxed() {
+	return this.unboxed;
+    }
+
+    /**
+     * Sets the value of unboxed
+     *
+     * @param argUnboxed Value to assign to this.unboxed
+     */
+    public void setUnboxed(boolean argUnboxed){
+	this.unboxed = argUnboxed;
+    }
+
+    /**
+     * Gets the value of chain_units
+     *
+     * @return the value of chain_units
+     */
+    public boolean isChain_units() {
+	return this.chain_units;
+    }
+
+    /**
+     * Sets the value of chain_units
+     *
+     * @param argChain_units Value to assign to this.chain_units
+     */
+    public void setChain_units(boolean argChain_units){
+	this.chain_units = argChain_units;
+    }
+
 	public boolean isXmlactions() {
 		return xmlactions;
 	}
@@ -1,9 +1,14 @@
 package java_cup;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Enumeration;
 
@@ -43,6 +48,9 @@ import java.util.Enumeration;
  * the symbols matching the RHS). This table is indexed by non terminal numbers
  * and indicates how to make these transitions.
  * </dl>
+ * Normally the tables are encoded in string literals. With the -binary_tables
+ * option they are written to a resource next to the parser class instead
+ * (see <code>lr_parser.unpackFromResource()</code>).
  * <p>
  * 
  * In addition to the method interface, this class maintains a series of public
@@ -98,6 +106,12 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 	public cup_emit() {
 	}
 
+	/**
+	 * Tables going into the binary resource, in the order the parser class
+	 * indexes them, or null if the tables are emitted as strings.
+	 */
+	private ArrayList<short[][]> binary_tables = null;
+
 	/*-----------------------------------------------------------*/
 	/*--- Static (Class) Variables ------------------------------*/
 	/*-----------------------------------------------------------*/
@@ -195,6 +209,23 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 	static final int UPPERLIMIT = 300;
 
+	/**
+	 * Number of productions dispatched by one method when each production has
+	 * its own action method (see emit_action_code()).
+	 */
+	static final int SPLIT_LIMIT = 32;
+
+	/**
+	 * The declaration of the parse stack parameter of the generated
+	 * <code>do_action</code> methods, padded to line up with the others.
+	 */
+	private String stack_param() {
+		return parse_stack() ? "    java_cup.runtime.ParseStack "
+				: "    java.util.Stack            ";
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/**
 	 * Emit code for the non-public class holding the actual action code.
 	 * 
@@ -202,10 +233,17 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 	 *            stream to produce output on.
 	 * @param start_prod
 	 *            the start production of the grammar.
+	 * @param split
+	 *            put the action of each production in a method of its own, so
+	 *            that the do_action_part methods only dispatch (SPLIT_LIMIT
+	 *            productions each) and every method stays small enough for
+	 *            the JIT to compile and inline.
 	 */
 	private void emit_action_code(ProductionFactory productionFactory,
-			PrintWriter out, production start_prod) throws internal_error {
+			PrintWriter out, production start_prod, boolean split)
+			throws internal_error {
 		production prod;
+		final int limit = split ? SPLIT_LIMIT : UPPERLIMIT;
 
 		long start_time = System.currentTimeMillis();
 
@@ -235,32 +273,55 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		out.println("  }");
 
 		out.println();
+		if (split) {
+			for (int i = 0; i < productionFactory.number(); i++) {
+				prod = productionFactory.find(i);
+				out.println("  /** Action code for " + prod.to_simple_string()
+						+ " */");
+				out.println("  private java_cup.runtime.Symbol " + pre("action_")
+						+ prod.index() + "(");
+				out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
+				out.println(stack_param() + pre("stack,"));
+				out.println("    int                        " + pre("top)"));
+				out.println("    throws java.lang.Exception");
+				out.println("    {");
+				out.println("      /* Symbol object for return from actions */");
+				out.println("      java_cup.runtime.Symbol " + pre("result")
+						+ ";");
+				emit_production_action(out, prod, start_prod);
+				out.println("    }");
+				out.println();
+			}
+		}
 		for (int instancecounter = 0; instancecounter <= productionFactory
-				.number() / UPPERLIMIT; instancecounter++) {
+				.number() / limit; instancecounter++) {
 			out.println("  /** Method " + instancecounter
 					+ " with the actual generated action code for actions "
-					+ (instancecounter * UPPERLIMIT) + " to "
-					+ ((instancecounter + 1) * UPPERLIMIT) + ". */");
+					+ (instancecounter * limit) + " to "
+					+ ((instancecounter + 1) * limit) + ". */");
 			out.println("  public final java_cup.runtime.Symbol "
 					+ pre("do_action_part")
 					+ String.format("%08d", new Integer(instancecounter)) + "(");
 			out.println("    int                        " + pre("act_num,"));
 			out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-			out.println("    java.util.Stack            " + pre("stack,"));
+			out.println(stack_param() + pre("stack,"));
 			out.println("    int                        " + pre("top)"));
 			out.println("    throws java.lang.Exception");
 			out.println("    {");
-			out.println("      /* Symbol object for return from actions */");
-			out.println("      java_cup.runtime.Symbol " + pre("result") + ";");
-			out.println();
+			if (!split) {
+				out.println("      /* Symbol object for return from actions */");
+				out.println("      java_cup.runtime.Symbol " + pre("result")
+						+ ";");
+				out.println();
+			}
 			out.println("      /* select the action based on the action number */");
 			out.println("      switch (" + pre("act_num") + ")");
 			out.println("        {");
 			// START Switch
 			/* emit action code for each production as a separate case */
-			int proditeration = instancecounter * UPPERLIMIT;
+			int proditeration = instancecounter * limit;
 			prod = productionFactory.find(proditeration);
-			for (; proditeration < Math.min((instancecounter + 1) * UPPERLIMIT,
+			for (; proditeration < Math.min((instancecounter + 1) * limit,
 					productionFactory.number()); prod = (production) productionFactory
 					.find(++proditeration)) {
 				/* case label */
@@ -268,154 +329,12 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 				out.println("          case " + prod.index() + ": // "
 						+ prod.to_simple_string());
 
-				/* give them their own block to work in */
-				out.println("            {");
-
-				/**
-				 * TUM 20060608 intermediate result patch
-				 */
-				String result = "null";
-				if (prod instanceof action_production) {
-					int lastResult = ((action_production) prod)
-							.getIndexOfIntermediateResult();
-					if (lastResult != -1) {
-						result = "("
-								+ prod.lhs().the_symbol().stack_type()
-								+ ") "
-								+ "((java_cup.runtime.Symbol) "
-								+ pre("stack")
-								+
-								// TUM 20050917
-								((lastResult == 1) ? ".peek()"
-										: (".elementAt(" + pre("top") + "-"
-												+ (lastResult - 1) + ")"))
-								+ ").value";
-					}
-				}
-
-				/* create the result symbol */
-				/*
-				 * make the variable RESULT which will point to the new Symbol
-				 * (see below) and be changed by action code 6/13/96 frankf
-				 */
-				out.println("              "
-						+ prod.lhs().the_symbol().stack_type() + " RESULT ="
-						+ result + ";");
-
-				/*
-				 * Add code to propagate RESULT assignments that occur in action
-				 * code embedded in a production (ie, non-rightmost action
-				 * code). 24-Mar-1998 CSA
-				 */
-				for (int i = prod.rhs_length() - 1; i >= 0; i--) {
-					// only interested in non-terminal symbols.
-					if (!(prod.rhs(i) instanceof symbol_part))
-						continue;
-					symbol s = ((symbol_part) prod.rhs(i)).the_symbol();
-					if (!(s instanceof non_terminal))
-						continue;
-					// skip this non-terminal unless it corresponds to
-					// an embedded action production.
-					if (((non_terminal) s).is_embedded_action == false)
-						continue;
-					// OK, it fits. Make a conditional assignment to RESULT.
-					int index = prod.rhs_length() - i - 1; // last rhs is on
-															// top.
-					// set comment to inform about where the intermediate result
-					// came from
-					out.println("              " + "// propagate RESULT from "
-							+ s.name());
-					// // look out, whether the intermediate result is null or
-					// not
-					// out.println("              " + "if ( " +
-					// "((java_cup.runtime.Symbol) " + pre("stack") +
-					// // TUM 20050917
-					// ((index==0)?".peek()":(".elementAt(" + pre("top") +
-					// "-" + index + ")"))+
-					// ").value != null )");
-
-					// TUM 20060608: even when its null: who cares?
-
-					// store the intermediate result into RESULT
-					out.println("                "
-							+ "RESULT = "
-							+ "("
-							+ prod.lhs().the_symbol().stack_type()
-							+ ") "
-							+ "((java_cup.runtime.Symbol) "
-							+ pre("stack")
-							+
-							// TUM 20050917
-							((index == 0) ? ".peek()" : (".elementAt("
-									+ pre("top") + "-" + index + ")"))
-							+ ").value;");
-					break;
-				}
-
-				/* if there is an action string, emit it */
-				if (prod.action() != null
-						&& prod.action().code_string() != null
-						&& !prod.action().equals(""))
-					out.println(prod.action().code_string());
-
-				/*
-				 * here we have the left and right values being propagated. must
-				 * make this a command line option. frankf 6/18/96
-				 */
-
-				/*
-				 * Create the code that assigns the left and right values of the
-				 * new Symbol that the production is reducing to
-				 */
-				if (lr_values()) {
-					int loffset;
-					String leftstring, rightstring;
-					// TUM 20050917
-					// int roffset = 0;
-					rightstring = "((java_cup.runtime.Symbol)" + pre("stack") +
-					// TUM 20050917
-					// ".elementAt(" + pre("top") + "-" + roffset +
-					// "))"+
-							".peek()" +
-							// TUM 20060327 removed .right
-							")";
-					if (prod.rhs_length() == 0)
-						leftstring = rightstring;
-					else {
-						loffset = prod.rhs_length() - 1;
-						leftstring = "((java_cup.runtime.Symbol)"
-								+ pre("stack") +
-								// TUM 20050917
-								((loffset == 0) ? (".peek()") : (".elementAt("
-										+ pre("top") + "-" + loffset + ")")) +
-								// TUM 20060327 removed .left
-								")";
-					}
-					out.println("              " + pre("result")
-							+ " = parser.getSymbolFactory().newSymbol(" + "\""
-							+ prod.lhs().the_symbol().name() + "\","
-							+ prod.lhs().the_symbol().index() + ", "
-							+ leftstring + ", " + rightstring + ", RESULT);");
-				} else {
-					out.println("              " + pre("result")
-							+ " = parser.getSymbolFactory().newSymbol(" + "\""
-							+ prod.lhs().the_symbol().name() + "\","
-							+ prod.lhs().the_symbol().index() + ", RESULT);");
-				}
-
-				/* end of their block */
-				out.println("            }");
-
-				/* if this was the start production, do action for accept */
-				if (prod == start_prod) {
-					out.println("          /* ACCEPT */");
-					out.println("          " + pre("parser")
-							+ ".done_parsing();");
-				}
-
-				/* code to return lhs symbol */
-				out.println("          return " + pre("result") + ";");
-				out.println();
+				if (split)
+					out.println("            return " + pre("action_")
+							+ prod.index() + "(" + pre("parser") + ", "
+							+ pre("stack") + ", " + pre("top") + ");");
+				else
+					emit_production_action(out, prod, start_prod);
 			}
 
 			// END Switch
@@ -437,12 +356,12 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 				+ pre("do_action") + "(");
 		out.println("    int                        " + pre("act_num,"));
 		out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-		out.println("    java.util.Stack            " + pre("stack,"));
+		out.println(stack_param() + pre("stack,"));
 		out.println("    int                        " + pre("top)"));
 		out.println("    throws java.lang.Exception");
 		out.println("    {");
 
-		if (productionFactory.number() < UPPERLIMIT) { // Make it simple for the
+		if (productionFactory.number() < limit) { // Make it simple for the
 			// optimizer to inline!
 			out.println("              return " + pre("do_action_part")
 					+ String.format("%08d", new Integer(0)) + "(");
@@ -462,16 +381,16 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 		/* switch top */
 		out.println("      /* select the action handler based on the action number */");
-		out.println("      switch (" + pre("act_num") + "/" + UPPERLIMIT + ")");
+		out.println("      switch (" + pre("act_num") + "/" + limit + ")");
 		out.println("        {");
 
 		/* emit action code for each production as a separate case */
 		for (int instancecounter = 0; instancecounter <= productionFactory
-				.number() / UPPERLIMIT; instancecounter++) {
+				.number() / limit; instancecounter++) {
 			/* case label */
 			out.println("          /*. . . . . . . . "
-					+ (instancecounter * UPPERLIMIT) + " < #action < "
-					+ ((instancecounter + 1) * UPPERLIMIT)
+					+ (instancecounter * limit) + " < #action < "
+					+ ((instancecounter + 1) * limit)
 					+ ". . . . . . . . . . . .*/");
 			out.println("          case " + instancecounter + ": ");
 			out.println("              return " + pre("do_action_part")
@@ -500,6 +419,228 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
+	/**
+	 * Emit the code carrying out the action of one production: a block
+	 * computing RESULT and the new Symbol, the accept for the start
+	 * production, and the return of the Symbol.
+	 * 
+	 * @param out
+	 *            stream to produce output on.
+	 * @param prod
+	 *            the production.
+	 * @param start_prod
+	 *            the start production of the grammar.
+	 */
+	private void emit_production_action(PrintWriter out, production prod,
+			production start_prod) throws internal_error {
+		/* give them their own block to work in */
+		out.println("            {");
+
+		/**
+		 * TUM 20060608 intermediate result patch
+		 */
+		/* a primitive RESULT is kept in the value column of the stack */
+		String stack_type = prod.lhs().the_symbol().stack_type();
+		boolean unboxed = unboxed_value(stack_type, 0) != null;
+		String result = unboxed ? (stack_type.equals("boolean") ? "false"
+				: "0") : "null";
+		if (prod instanceof action_production) {
+			int lastResult = ((action_production) prod)
+					.getIndexOfIntermediateResult();
+			if (lastResult != -1 && unboxed) {
+				result = unboxed_value(stack_type, lastResult - 1);
+			} else if (lastResult != -1) {
+				result = "("
+						+ prod.lhs().the_symbol().stack_type()
+						+ ") "
+						+ "((java_cup.runtime.Symbol) "
+						+ pre("stack")
+						+
+						// TUM 20050917
+						((lastResult == 1) ? ".peek()"
+								: (".elementAt(" + pre("top") + "-"
+										+ (lastResult - 1) + ")"))
+						+ ").value";
+			}
+		}
+
+		/* create the result symbol */
+		/*
+		 * make the variable RESULT which will point to the new Symbol
+		 * (see below) and be changed by action code 6/13/96 frankf
+		 */
+		out.println("              "
+				+ prod.lhs().the_symbol().stack_type() + " RESULT ="
+				+ result + ";");
+
+		/*
+		 * pass the value on (for a non terminal the runtime retargets the
+		 * Symbol instead, to the same effect)
+		 */
+		if (passes_value(prod))
+			out.println("              RESULT = "
+					+ (unboxed ? unboxed_value(stack_type, 0) : "("
+							+ stack_type + ") ((java_cup.runtime.Symbol) "
+							+ pre("stack") + ".peek()).value") + ";");
+
+		/*
+		 * Add code to propagate RESULT assignments that occur in action
+		 * code embedded in a production (ie, non-rightmost action
+		 * code). 24-Mar-1998 CSA
+		 */
+		for (int i = prod.rhs_length() - 1; i >= 0; i--) {
+			// only interested in non-terminal symbols.
+			if (!(prod.rhs(i) instanceof symbol_part))
+				continue;
+			symbol s = ((symbol_part) prod.rhs(i)).the_symbol();
+			if (!(s instanceof non_terminal))
+				continue;
+			// skip this non-terminal unless it corresponds to
+			// an embedded action production.
+			if (((non_terminal) s).is_embedded_action == false)
+				continue;
+			// OK, it fits. Make a conditional assignment to RESULT.
+			int index = prod.rhs_length() - i - 1; // last rhs is on
+													// top.
+			// set comment to inform about where the intermediate result
+			// came from
+			out.println("              " + "// propagate RESULT from "
+					+ s.name());
+			// // look out, whether the intermediate result is null or
+			// not
+			// out.println("              " + "if ( " +
+			// "((java_cup.runtime.Symbol) " + pre("stack") +
+			// // TUM 20050917
+			// ((index==0)?".peek()":(".elementAt(" + pre("top") +
+			// "-" + index + ")"))+
+			// ").value != null )");
+
+			// TUM 20060608: even when its null: who cares?
+
+			// store the intermediate result into RESULT
+			if (unboxed) {
+				out.println("                " + "RESULT = "
+						+ unboxed_value(stack_type, index) + ";");
+				break;
+			}
+			out.println("                "
+					+ "RESULT = "
+					+ "("
+					+ prod.lhs().the_symbol().stack_type()
+					+ ") "
+					+ "((java_cup.runtime.Symbol) "
+					+ pre("stack")
+					+
+					// TUM 20050917
+					((index == 0) ? ".peek()" : (".elementAt("
+							+ pre("top") + "-" + index + ")"))
+					+ ").value;");
+			break;
+		}
+
+		/* if there is an action string, emit it */
+		if (prod.action() != null
+				&& prod.action().code_string() != null
+				&& !prod.action().equals(""))
+			out.println(prod.action().code_string());
+
+		/* hand a primitive RESULT to the stack rather than boxing it */
+		String value = "RESULT";
+		if (unboxed) {
+			out.println("              " + pre("stack")
+					+ ".set_result(RESULT);");
+			value = "null";
+		}
+
+		/*
+		 * here we have the left and right values being propagated. must
+		 * make this a command line option. frankf 6/18/96
+		 */
+
+		/*
+		 * Create the code that assigns the left and right values of the
+		 * new Symbol that the production is reducing to
+		 */
+		if (lr_values()) {
+			int loffset;
+			String leftstring, rightstring;
+			// TUM 20050917
+			// int roffset = 0;
+			rightstring = "((java_cup.runtime.Symbol)" + pre("stack") +
+			// TUM 20050917
+			// ".elementAt(" + pre("top") + "-" + roffset +
+			// "))"+
+					".peek()" +
+					// TUM 20060327 removed .right
+					")";
+			if (prod.rhs_length() == 0)
+				leftstring = rightstring;
+			else {
+				loffset = prod.rhs_length() - 1;
+				leftstring = "((java_cup.runtime.Symbol)"
+						+ pre("stack") +
+						// TUM 20050917
+						((loffset == 0) ? (".peek()") : (".elementAt("
+								+ pre("top") + "-" + loffset + ")")) +
+						// TUM 20060327 removed .left
+						")";
+			}
+			out.println("              " + pre("result")
+					+ " = parser.getSymbolFactory().newSymbol(" + "\""
+					+ prod.lhs().the_symbol().name() + "\","
+					+ prod.lhs().the_symbol().index() + ", "
+					+ leftstring + ", " + rightstring + ", " + value + ");");
+		} else {
+			out.println("              " + pre("result")
+					+ " = parser.getSymbolFactory().newSymbol(" + "\""
+					+ prod.lhs().the_symbol().name() + "\","
+					+ prod.lhs().the_symbol().index() + ", " + value + ");");
+		}
+
+		/* end of their block */
+		out.println("            }");
+
+		/* if this was the start production, do action for accept */
+		if (prod == start_prod) {
+			out.println("          /* ACCEPT */");
+			out.println("          " + pre("parser")
+					+ ".done_parsing();");
+		}
+
+		/* code to return lhs symbol */
+		out.println("          return " + pre("result") + ";");
+		out.println();
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Does a production pass the value of its right hand side on (see
+	 * -chain_units)? This takes an action-less unit production whose value
+	 * can be passed on as it is; a terminal's value cannot become an unboxed
+	 * one.
+	 */
+	private boolean passes_value(production prod) throws internal_error {
+		if (!chain_units() || xmlactions() || !prod.is_chain_unit())
+			return false;
+		symbol s = ((symbol_part) prod.rhs(0)).the_symbol();
+		return s.is_non_term() || unboxed_value(s.stack_type(), 0) == null;
+	}
+
+	/**
+	 * Does the runtime reduce with a production by retargeting the Symbol on
+	 * top of the stack to the left hand side? This takes a production that
+	 * passes the value of a non terminal on: its Symbol was created by the
+	 * parser's symbol factory, whereas a terminal's Symbol belongs to the
+	 * scanner (and may, like a ComplexSymbol, carry its own name).
+	 */
+	private boolean retargets(production prod) throws internal_error {
+		return passes_value(prod)
+				&& ((symbol_part) prod.rhs(0)).the_symbol().is_non_term();
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/**
 	 * Emit the production table.
 	 * 
@@ -507,7 +648,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 	 *            stream to produce output on.
 	 */
 	private void emit_production_table(ProductionFactory productionFactory,
-			PrintWriter out) {
+			PrintWriter out) throws internal_error {
 		production all_prods[];
 		production prod;
 
@@ -533,9 +674,8 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		out.println();
 		out.println("  /** Production table. */");
 		out.println("  protected static final short _production_table[][] = ");
-		out.print("    unpackFromStrings(");
-		do_table_as_string(out, prod_table);
-		out.println(");");
+		do_table(out, prod_table);
+		out.println(";");
 
 		/* do the public accessor method */
 		out.println();
@@ -543,6 +683,24 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		out.println("  public short[][] production_table() "
 				+ "{return _production_table;}");
 
+		/* list the productions the runtime reduces with by retargeting */
+		if (chain_units()) {
+			short[] chain = new short[all_prods.length];
+			int n = 0;
+			for (int i = 0; i < all_prods.length; i++)
+				if (retargets(all_prods[i]))
+					chain[n++] = (short) i;
+			out.println();
+			out.println("  /** Action-less unit productions. */");
+			out.println("  protected static final short[] _chain_productions = ");
+			do_table(out, new short[][] { Arrays.copyOf(chain, n) });
+			out.println("[0];");
+			out.println();
+			out.println("  /** Access to action-less unit productions. */");
+			out.println("  public short[] chain_productions() "
+					+ "{return _chain_productions;}");
+		}
+
 		production_table_time = System.currentTimeMillis() - start_time;
 	}
 
@@ -557,11 +715,15 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 	 *            the internal representation of the action table.
 	 * @param compact_reduces
 	 *            do we use the most frequent reduce as default?
+	 * @param dense_actions
+	 *            do we emit a directly indexed table rather than packed rows?
+	 * @param consistent
+	 *            do we also emit the reductions of the consistent states?
 	 */
 	private void do_action_table(TerminalFactory terminalFactory,
 			ProductionFactory productionFactory, PrintWriter out,
-			parse_action_table act_tab, boolean compact_reduces)
-			throws internal_error {
+			parse_action_table act_tab, boolean compact_reduces,
+			boolean dense_actions, boolean consistent) throws internal_error {
 		parse_action_row row;
 		parse_action act;
 		int red;
@@ -570,11 +732,20 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 		/* collect values for the action table */
 		short[][] action_table = new short[act_tab.num_states()][];
+		int num_terms = terminalFactory.number();
+		short[] dense_table = dense_actions ? new short[act_tab.num_states()
+				* num_terms] : null;
+		short[] consistent_table = consistent ? new short[act_tab
+				.num_states()] : null;
 		/* do each state (row) of the action table */
 		for (int i = 0; i < act_tab.num_states(); i++) {
 			/* get the row */
 			row = act_tab.under_state[i];
 
+			/* note the reduction of a consistent state */
+			if (consistent)
+				consistent_table[i] = consistent_reduce(row, num_terms);
+
 			/* determine the default for the row */
 			if (compact_reduces)
 				row.compute_default(productionFactory);
@@ -631,15 +802,33 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 				action_table[i][nentries++] = (short) (-(row.default_reduce + 1));
 			else
 				action_table[i][nentries++] = 0;
+
+			/* spread the packed row out over every column of the dense row */
+			if (dense_actions) {
+				short[] packed = action_table[i];
+				int base = i * num_terms;
+				Arrays.fill(dense_table, base, base + num_terms,
+						packed[packed.length - 1]);
+				for (int k = 0; k < packed.length - 2; k += 2)
+					dense_table[base + packed[k]] = packed[k + 1];
+			}
+		}
+
+		if (consistent)
+			do_consistent_table(out, consistent_table);
+
+		if (dense_actions) {
+			do_dense_action_table(out, dense_table, num_terms);
+			action_table_time = System.currentTimeMillis() - start_time;
+			return;
 		}
 
 		/* finish off the init of the table */
 		out.println();
 		out.println("  /** Parse-action table. */");
 		out.println("  protected static final short[][] _action_table = ");
-		out.print("    unpackFromStrings(");
-		do_table_as_string(out, action_table);
-		out.println(");");
+		do_table(out, action_table);
+		out.println(";");
 
 		/* do the public accessor method */
 		out.println();
@@ -651,6 +840,96 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
+	/**
+	 * The reduction a state performs whatever the lookahead, encoded as in the
+	 * action table, or 0 if its action depends on the lookahead. The state
+	 * must be consistent: without shifts, and reducing by one production under
+	 * every terminal it does not reject. (A NONASSOC entry has to reject its
+	 * terminal before any reduction, so it rules the state out.)
+	 * 
+	 * @param row
+	 *            the action row of the state.
+	 * @param num_terms
+	 *            the number of terminals.
+	 */
+	private static short consistent_reduce(parse_action_row row,
+			int num_terms) {
+		int red = -1;
+		for (int j = 0; j < num_terms; j++) {
+			parse_action act = row.under_term[j];
+			if (act.kind() == parse_action.ERROR)
+				continue;
+			if (act.kind() != parse_action.REDUCE)
+				return 0;
+			int prod = ((reduce_action) act).reduce_with().index();
+			if (red != -1 && prod != red)
+				return 0;
+			red = prod;
+		}
+		return (red == -1) ? 0 : (short) (-(red + 1));
+	}
+
+	/**
+	 * Emit the reductions of the consistent states, one entry per state as
+	 * computed by consistent_reduce().
+	 * 
+	 * @param out
+	 *            stream to produce output on.
+	 * @param consistent_table
+	 *            the entries.
+	 */
+	private void do_consistent_table(PrintWriter out, short[] consistent_table) {
+		out.println();
+		out.println("  /** Reductions of the consistent states. */");
+		out.println("  protected static final short[] _consistent_table = ");
+		do_table(out, new short[][] { consistent_table });
+		out.println("[0];");
+
+		/* do the public accessor method */
+		out.println();
+		out.println("  /** Access to the reductions of the consistent states. */");
+		out.println("  public short[] consistent_table() {return _consistent_table;}");
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Emit a directly indexed action table. Entry
+	 * <code>state*num_terms+sym</code> holds the same encoded action that
+	 * <code>lr_parser.get_action()</code> would find in the packed row, so the
+	 * runtime gets away with a single array read per lookup. The packed table
+	 * is not emitted in this mode.
+	 * 
+	 * @param out
+	 *            stream to produce output on.
+	 * @param dense_table
+	 *            the flattened table, one row of num_terms entries per state.
+	 * @param num_terms
+	 *            the width of each row.
+	 */
+	private void do_dense_action_table(PrintWriter out, short[] dense_table,
+			int num_terms) {
+		out.println();
+		out.println("  /** Directly indexed parse-action table. */");
+		out.println("  protected static final short[] _dense_action_table = ");
+		do_table(out, new short[][] { dense_table });
+		out.println("[0];");
+
+		/* do the public accessor methods */
+		out.println();
+		out.println("  /** Access to parse-action table (not used, see dense_action_table()). */");
+		out.println("  public short[][] action_table() {return null;}");
+		out.println();
+		out.println("  /** Access to directly indexed parse-action table. */");
+		out.println("  public short[] dense_action_table() {return _dense_action_table;}");
+		out.println();
+		out.println("  /** Row width of the directly indexed parse-action table. */");
+		out.println("  public int dense_action_width() {return " + num_terms
+				+ ";}");
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/**
 	 * Emit the reduce-goto table.
 	 * 
@@ -658,9 +937,11 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 	 *            stream to produce output on.
 	 * @param red_tab
 	 *            the internal representation of the reduce-goto table.
+	 * @param comb_reduce
+	 *            do we pack the rows into a row-displacement comb vector?
 	 */
 	private void do_reduce_table(NonTerminalFactory nonTerminalFactory,
-			PrintWriter out, parse_reduce_table red_tab) {
+			PrintWriter out, parse_reduce_table red_tab, boolean comb_reduce) {
 		lalr_state goto_st;
 
 		long start_time = System.currentTimeMillis();
@@ -693,13 +974,23 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 			reduce_goto_table[i][nentries++] = -1;
 		}
 
+		if (comb_reduce) {
+			short[][] comb = comb_vector(reduce_goto_table,
+					nonTerminalFactory.number());
+			if (comb != null) {
+				do_comb_reduce_table(out, comb);
+				goto_table_time = System.currentTimeMillis() - start_time;
+				return;
+			}
+			/* too big to address with shorts; keep the sparse rows */
+		}
+
 		/* emit the table. */
 		out.println();
 		out.println("  /** <code>reduce_goto</code> table. */");
 		out.println("  protected static final short[][] _reduce_table = ");
-		out.print("    unpackFromStrings(");
-		do_table_as_string(out, reduce_goto_table);
-		out.println(");");
+		do_table(out, reduce_goto_table);
+		out.println(";");
 
 		/* do the public accessor method */
 		out.println();
@@ -710,6 +1001,152 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		goto_table_time = System.currentTimeMillis() - start_time;
 	}
 
+	/**
+	 * Pack sparse index/value rows (as built for the reduce-goto table) into
+	 * a row-displacement comb vector. Each row is slid along a shared vector
+	 * until its entries land on free slots; the offset chosen becomes the
+	 * row's base. Rows are placed largest first, which keeps the vector close
+	 * to the number of real entries. A lookup of column j in row i then reads
+	 * <code>next[base[i]+j]</code> if <code>check[base[i]+j] == i</code> and
+	 * has no entry otherwise. The vector is padded by the row width so no
+	 * lookup can run off its end.
+	 * 
+	 * @param rows
+	 *            the sparse rows, each ending in a -1,default pair.
+	 * @param width
+	 *            the number of columns of the unpacked table.
+	 * @return the rows {base, check, next}, or null if the vector is too long
+	 *         to be indexed by an unsigned short.
+	 */
+	private static short[][] comb_vector(short[][] rows, int width) {
+		Integer[] order = new Integer[rows.length];
+		for (int i = 0; i < rows.length; i++)
+			order[i] = i;
+		final short[][] r = rows;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return r[b].length - r[a].length;
+			}
+		});
+
+		short[] base = new short[rows.length];
+		int[] check = new int[rows.length * 2 + width];
+		Arrays.fill(check, -1);
+		int[] next = new int[check.length];
+		int size = 0, first_free = 0;
+		for (int o = 0; o < order.length; o++) {
+			int i = order[o];
+			short[] row = rows[i];
+			if (row.length <= 2)
+				continue;
+			while (first_free < check.length && check[first_free] != -1)
+				first_free++;
+			int b = Math.max(0, first_free - row[0]);
+			for (;; b++) {
+				if (b + width > check.length) {
+					check = Arrays.copyOf(check, check.length * 2);
+					Arrays.fill(check, check.length / 2, check.length, -1);
+					next = Arrays.copyOf(next, check.length);
+				}
+				boolean fits = true;
+				for (int k = 0; k < row.length - 2 && fits; k += 2)
+					fits = check[b + row[k]] == -1;
+				if (fits)
+					break;
+			}
+			for (int k = 0; k < row.length - 2; k += 2) {
+				check[b + row[k]] = i;
+				next[b + row[k]] = row[k + 1];
+			}
+			base[i] = (short) b;
+			size = Math.max(size, b + width);
+			if (size > 0xFFFF)
+				return null;
+		}
+
+		short[][] comb = new short[3][];
+		comb[0] = base;
+		comb[1] = new short[size];
+		comb[2] = new short[size];
+		for (int j = 0; j < size; j++) {
+			comb[1][j] = (short) check[j];
+			comb[2][j] = (short) next[j];
+		}
+		return comb;
+	}
+
+	/**
+	 * Emit the reduce-goto table in comb vector form (see comb_vector()).
+	 * 
+	 * @param out
+	 *            stream to produce output on.
+	 * @param comb
+	 *            the rows {base, check, next}.
+	 */
+	private void do_comb_reduce_table(PrintWriter out, short[][] comb) {
+		out.println();
+		out.println("  /** <code>reduce_goto</code> table as a {base, check, next} comb vector. */");
+		out.println("  protected static final short[][] _reduce_comb_table = ");
+		do_table(out, comb);
+		out.println(";");
+
+		/* do the public accessor methods */
+		out.println();
+		out.println("  /** Access to <code>reduce_goto</code> table (not used, see reduce_comb_table()). */");
+		out.println("  public short[][] reduce_table() {return null;}");
+		out.println();
+		out.println("  /** Access to packed <code>reduce_goto</code> table. */");
+		out.println("  public short[][] reduce_comb_table() {return _reduce_comb_table;}");
+		out.println();
+	}
+
+	/**
+	 * Emit the initializer of a table: either an unpackFromStrings() call or,
+	 * when the tables go into a binary resource, a reference to its slot in
+	 * the tables loaded from there.
+	 * 
+	 * @param out
+	 *            stream to produce output on.
+	 * @param sa
+	 *            the table.
+	 */
+	private void do_table(PrintWriter out, short[][] sa) {
+		if (binary_tables != null) {
+			out.print("    _binary_tables[" + binary_tables.size() + "]");
+			binary_tables.add(sa);
+			return;
+		}
+		out.print("    unpackFromStrings(");
+		do_table_as_string(out, sa);
+		out.print(")");
+	}
+
+	/**
+	 * Write the tables collected for the binary resource in the format read
+	 * by <code>lr_parser.unpackFromResource()</code>.
+	 * 
+	 * @param fil
+	 *            the resource file to write.
+	 */
+	private void write_binary_tables(File fil) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(fil), 4096));
+		try {
+			out.writeInt(java_cup.runtime.lr_parser.TABLES_MAGIC);
+			out.writeInt(binary_tables.size());
+			for (short[][] table : binary_tables) {
+				out.writeInt(table.length);
+				for (short[] row : table) {
+					out.writeInt(row.length);
+					for (short v : row)
+						out.writeShort(v);
+				}
+			}
+		} finally {
+			out.close();
+		}
+	}
+
 	// print a string array encoding the given short[][] array.
 	private static void do_table_as_string(PrintWriter out, short[][] sa) {
 		out.println("new String[] {");
@@ -788,7 +1225,9 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 			ProductionFactory productionFactory, PrintWriter out,
 			parse_action_table action_table, parse_reduce_table reduce_table,
 			int start_st, production start_prod, boolean compact_reduces,
-			boolean suppress_scanner) throws internal_error {
+			boolean dense_actions, boolean comb_reduce,
+			boolean suppress_scanner, boolean binary, boolean split_actions,
+			boolean consistent) throws internal_error {
 		long start_time = System.currentTimeMillis();
 
 		/* top of file */
@@ -804,7 +1243,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		/* user supplied imports */
 		for (int i = 0; i < import_list.size(); i++)
 			out.println("import " + import_list.elementAt(i) + ";");
-		if (locations())
+		if (locations() || (loc_table() && lr_values()))
 			out.println("import java_cup.runtime.ComplexSymbolFactory.Location;");
 		out.println("import java_cup.runtime.XMLElement;");
 
@@ -835,10 +1274,20 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		}
 
 		/* emit the various tables */
+		if (binary) {
+			binary_tables = new ArrayList<short[][]>();
+			out.println();
+			out.println("  /** Parse tables, loaded from the resource "
+					+ parser_class_name + ".tables. */");
+			out.println("  private static final short[][][] _binary_tables = ");
+			out.println("    unpackFromResource(" + parser_class_name
+					+ ".class, \"" + parser_class_name + ".tables\");");
+		} else
+			binary_tables = null;
 		emit_production_table(productionFactory, out);
 		do_action_table(terminalFactory, productionFactory, out, action_table,
-				compact_reduces);
-		do_reduce_table(nonTerminalFactory, out, reduce_table);
+				compact_reduces, dense_actions, consistent);
+		do_reduce_table(nonTerminalFactory, out, reduce_table, comb_reduce);
 
 		/* instance of the action encapsulation class */
 		out.println("  /** Instance of action encapsulation class. */");
@@ -860,7 +1309,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		out.println("  public java_cup.runtime.Symbol do_action(");
 		out.println("    int                        act_num,");
 		out.println("    java_cup.runtime.lr_parser parser,");
-		out.println("    java.util.Stack            stack,");
+		out.println(stack_param() + "stack,");
 		out.println("    int                        top)");
 		out.println("    throws java.lang.Exception");
 		out.println("  {");
@@ -870,6 +1319,13 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 		out.println("  }");
 		out.println("");
 
+		/* tell the runtime our actions index the primitive stack */
+		if (parse_stack()) {
+			out.println("  /** Indicates that actions index the primitive parse stack. */");
+			out.println("  public boolean legacy_stack() {return false;}");
+			out.println();
+		}
+
 		/* method to tell the parser about the start state */
 		out.println("  /** Indicates start state. */");
 		out.println("  public int start_state() {return " + start_st + ";}");
@@ -922,7 +1378,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 
 		/* put out the action code class */
 		if (!xmlactions())
-			emit_action_code(productionFactory, out, start_prod);
+			emit_action_code(productionFactory, out, start_prod, split_actions);
 		else
 			emit_xmlaction_code(productionFactory, out, start_prod);
 		parser_time = System.currentTimeMillis() - start_time;
@@ -976,7 +1432,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 					+ String.format("%08d", new Integer(instancecounter)) + "(");
 			out.println("    int                        " + pre("act_num,"));
 			out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-			out.println("    java.util.Stack            " + pre("stack,"));
+			out.println(stack_param() + pre("stack,"));
 			out.println("    int                        " + pre("top)"));
 			out.println("    throws java.lang.Exception");
 			out.println("    {");
@@ -1105,7 +1561,7 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 				+ pre("do_action") + "(");
 		out.println("    int                        " + pre("act_num,"));
 		out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-		out.println("    java.util.Stack            " + pre("stack,"));
+		out.println(stack_param() + pre("stack,"));
 		out.println("    int                        " + pre("top)"));
 		out.println("    throws java.lang.Exception");
 		out.println("    {");
@@ -1285,7 +1741,21 @@ public class cup_emit extends AbstractEmitter implements Emitter {
 					factories.productionFactory, parser_class_file,
 					factories.action_table, factories.reduce_table,
 					factories.start_state.index(), start_production(),
-					options.opt_compact_red, options.suppress_scanner);
+					options.opt_compact_red, options.opt_dense_actions,
+					options.opt_comb_reduce, options.suppress_scanner,
+					options.opt_binary_tables, options.opt_split_actions,
+					options.opt_consistent);
+			if (binary_tables != null) {
+				File fil = new File(options.dest_dir, parser_class_name
+						+ ".tables");
+				try {
+					write_binary_tables(fil);
+				} catch (IOException e) {
+					System.err.println("Can't write \"" + fil.getName()
+							+ "\"");
+					System.exit(3);
+				}
+			}
 		} finally {
 			close_files();
 		}
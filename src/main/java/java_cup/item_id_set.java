@@ -0,0 +1,100 @@
+package java_cup;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+
+/**
+ * An immutable set of LR items represented by their dense item numbers (see
+ * lr_item_core.item_id()), kept as a sorted array of ints. Two sets of items
+ * with the same cores have equal item_id_sets, so these make cheap keys for
+ * finding states by their kernels: hashing and comparing them touches a few
+ * ints instead of walking hash tables of items.
+ * 
+ * @see java_cup.lalr_item_set
+ * @see java_cup.LalrStateFactory
+ */
+public class item_id_set {
+
+	/*-----------------------------------------------------------*/
+	/*--- Constructor(s) ----------------------------------------*/
+	/*-----------------------------------------------------------*/
+
+	/**
+	 * Constructor taking the items of an item set.
+	 * 
+	 * @param itms
+	 *            the item set whose item numbers we hold.
+	 */
+	public item_id_set(lalr_item_set itms) {
+		_ids = new int[itms.size()];
+		int n = 0;
+		for (Enumeration<lalr_item> e = itms.all(); e.hasMoreElements();)
+			_ids[n++] = e.nextElement().item_id();
+		Arrays.sort(_ids);
+		_hash = Arrays.hashCode(_ids);
+	}
+
+	/*-----------------------------------------------------------*/
+	/*--- (Access to) Instance Variables ------------------------*/
+	/*-----------------------------------------------------------*/
+
+	/** The item numbers, in ascending order. */
+	protected final int[] _ids;
+
+	/** Cached hash code. */
+	protected final int _hash;
+
+	/** Size of the set. */
+	public int size() {
+		return _ids.length;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Item number at a given position (in ascending order).
+	 * 
+	 * @param i
+	 *            the position.
+	 */
+	public int id(int i) {
+		return _ids[i];
+	}
+
+	/*-----------------------------------------------------------*/
+	/*--- General Methods ---------------------------------------*/
+	/*-----------------------------------------------------------*/
+
+	/** Equality comparison. */
+	public boolean equals(item_id_set other) {
+		return other != null && other._hash == _hash
+				&& Arrays.equals(other._ids, _ids);
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/** Generic equality comparison. */
+	public boolean equals(Object other) {
+		if (!(other instanceof item_id_set))
+			return false;
+		else
+			return equals((item_id_set) other);
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/** Hash code. */
+	public int hashCode() {
+		return _hash;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/** Convert to string. */
+	public String toString() {
+		return Arrays.toString(_ids);
+	}
+
+	/*-----------------------------------------------------------*/
+
+}
@@ -185,6 +185,15 @@ public class lalr_item extends lr_item_core {
 	throw new internal_error(
 	  "Attempt to calculate a lookahead set with a completed item");
 
+      /* use the precomputed first set of what follows the symbol if we can */
+      if (the_production().has_suffix_sets())
+	{
+	  result = new terminal_set(the_production().suffix_first(dot_pos()+1));
+	  if (the_production().suffix_nullable(dot_pos()+1))
+	    result.add(lookahead_after);
+	  return result;
+	}
+
       /* start with an empty result */
       result = new terminal_set(terminalFactory);
 
@@ -240,6 +249,10 @@ public class lalr_item extends lr_item_core {
 	 to do is just return true. */
       if (dot_at_end()) return true;
 
+      /* use the precomputed nullability if we can */
+      if (the_production().has_suffix_sets())
+	return the_production().suffix_nullable(dot_pos()+1);
+
       /* walk down the rhs and bail if we get a non-nullable symbol */
       for (int pos = dot_pos() + 1; pos < the_production().rhs_length(); pos++)
 	{
@@ -236,7 +236,14 @@ public class lalr_item_set {
    *  core and the union of the lookahead sets (the LA in LALR stands for 
    *  "lookahead merged" and this is where the merger is).  This routine 
    *  assumes that nullability and first sets have been computed for all 
-   *  productions before it is called.
+   *  productions before it is called.<p>
+   *
+   *  Items already in the set are found through the closure template of N
+   *  (see non_terminal.closure_templates()), so an item is only created
+   *  when it is new.  The order in which items are considered, and so the
+   *  order in which they go into the set (which decides the order of the
+   *  transitions and the numbering of the states), is that of the hash
+   *  order worklist, whatever the templates.
    */
   public void compute_closure(TerminalFactory terminalFactory)
     throws internal_error
@@ -245,7 +252,8 @@ public class lalr_item_set {
       lalr_item     itm, new_itm, add_itm;
       non_terminal  nt;
       terminal_set  new_lookaheads;
-      Enumeration<production>   p;
+      production[]  prods;
+      lalr_item[]   templates;
       production    prod;
       boolean       need_prop;
 
@@ -267,33 +275,44 @@ public class lalr_item_set {
 	  nt = itm.dot_before_nt();
 	  if (nt != null)
 	    {
-	      /* create the lookahead set based on first after dot */
-	      new_lookaheads = itm.calc_lookahead(itm.lookahead());
-
 	      /* are we going to need to propagate our lookahead to new item */
 	      need_prop = itm.lookahead_visible();
 
-	      /* create items for each production of that non term */
-	      for (p = nt.productions(); p.hasMoreElements(); )
+	      /* create the lookahead set based on first after dot (which is
+		 the precomputed first set itself if our lookahead isn't visible) */
+	      prod = itm.the_production();
+	      if (!need_prop && prod.has_suffix_sets())
+		new_lookaheads = prod.suffix_first(itm.dot_pos()+1);
+	      else
+		new_lookaheads = itm.calc_lookahead(itm.lookahead());
+
+	      /* find or create items for each production of that non term */
+	      prods = nt.production_array();
+	      templates = nt.closure_templates();
+	      for (int k = 0; k < prods.length; k++)
 		{
-		  prod = (production)p.nextElement();
-
-		  /* create new item with dot at start and that lookahead */
-		  new_itm = new lalr_item(errorManager, terminalFactory, prod, 
-					     new terminal_set(new_lookaheads));
+		  /* merge the lookahead into the item if it is there already */
+		  add_itm = (templates == null) ? null : find(templates[k]);
+		  if (add_itm != null)
+		    add_itm.lookahead().add(new_lookaheads);
+		  else
+		    {
+		      /* create new item with dot at start and a copy of that
+			 lookahead, and add/merge it into the set */
+		      new_itm = new lalr_item(errorManager, terminalFactory,
+					      prods[k],
+					      new terminal_set(new_lookaheads));
+		      add_itm = add(new_itm);
+
+		      /* if it was new, it may need further closure, consider
+			 it also */
+		      if (add_itm == new_itm)
+			consider.add(new_itm);
+		    }
 
-		  /* add/merge item into the set */
-		  add_itm = add(new_itm);
 		  /* if propagation is needed link to that item */
 		  if (need_prop)
 		    itm.add_propagate(add_itm);
-
-		  /* was this was a new item*/
-		  if (add_itm == new_itm)
-		    {
-		      /* that may need further closure, consider it also */ 
-		      consider.add(new_itm);
-		    } 
 		} 
 	    } 
 	} 
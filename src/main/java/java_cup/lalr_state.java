@@ -190,11 +190,8 @@ public class lalr_state {
 				act = new reduce_action(itm.the_production());
 
 				/* consider each lookahead symbol */
-				for (int t = 0; t < terminalFactory.number(); t++) {
-					/* skip over the ones not in the lookahead */
-					if (!itm.lookahead().contains(t))
-						continue;
-
+				for (int t = itm.lookahead().next_element(0); t >= 0; t = itm
+						.lookahead().next_element(t + 1)) {
 					/* if we don't already have an action put this one in */
 					if (our_act_row.under_term[t].kind() == parse_action.ERROR) {
 						our_act_row.under_term[t] = act;
@@ -399,51 +396,42 @@ public class lalr_state {
 	protected void report_conflicts(IErrorManager errorManager,
 			TerminalFactory terminalFactory, Emitter emit,
 			terminal_set conflict_set) throws internal_error {
-		lalr_item itm, compare;
-		boolean after_itm;
+		lalr_item[] reduces;
+		boolean[] conflicts;
+		int n = 0;
 
-		/* consider each element */
+		/* pick out the items that reduce, in the order of the item set */
+		reduces = new lalr_item[items().size()];
 		for (Enumeration<lalr_item> itms = items().all(); itms
 				.hasMoreElements();) {
-			itm = (lalr_item) itms.nextElement();
-
-			/* clear the S/R conflict set for this item */
+			lalr_item itm = itms.nextElement();
+			if (itm.dot_at_end())
+				reduces[n++] = itm;
+		}
 
-			/* if it results in a reduce, it could be a conflict */
-			if (itm.dot_at_end()) {
-				/* not yet after itm */
-				after_itm = false;
-
-				/* compare this item against all others looking for conflicts */
-				for (Enumeration<lalr_item> comps = items().all(); comps
-						.hasMoreElements();) {
-					compare = (lalr_item) comps.nextElement();
-
-					/* if this is the item, next one is after it */
-					if (itm == compare)
-						after_itm = true;
-
-					/* only look at it if its not the same item */
-					if (itm != compare) {
-						/* is it a reduce */
-						if (compare.dot_at_end()) {
-							/* only look at reduces after itm */
-							if (after_itm)
-								/* does the comparison item conflict? */
-								if (compare.lookahead().intersects(
-										itm.lookahead()))
-									/* report a reduce/reduce conflict */
-									report_reduce_reduce(errorManager,
-											terminalFactory, emit, itm, compare);
-						}
-					}
-				}
-				/* report S/R conflicts under all the symbols we conflict under */
-				for (int t = 0; t < terminalFactory.number(); t++)
-					if (conflict_set.contains(t))
-						report_shift_reduce(errorManager, terminalFactory,
-								emit, itm, t);
-			}
+		/*
+		 * decide once which reduces are reported against the ones before them:
+		 * terminal_set.intersects() has always answered whether the compared
+		 * lookahead is non-empty, whatever it is compared with, so that is all
+		 * that has to be looked at for each reduce
+		 */
+		conflicts = new boolean[n];
+		for (int j = 1; j < n; j++)
+			conflicts[j] = reduces[j].lookahead().intersects(
+					reduces[j - 1].lookahead());
+
+		for (int i = 0; i < n; i++) {
+			/* report reduce/reduce conflicts with the reduces after this one */
+			for (int j = i + 1; j < n; j++)
+				if (conflicts[j])
+					report_reduce_reduce(errorManager, terminalFactory, emit,
+							reduces[i], reduces[j]);
+
+			/* report S/R conflicts under all the symbols we conflict under */
+			for (int t = conflict_set.next_element(0); t >= 0; t = conflict_set
+					.next_element(t + 1))
+				report_shift_reduce(errorManager, terminalFactory, emit,
+						reduces[i], t);
 		}
 	}
 
@@ -186,6 +186,16 @@ public class lr_item_core {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Dense number of the item, unique among the items of all productions
+   *  (the number of the production's first item plus the dot position).
+   */
+  public int item_id()
+    {
+      return _the_production.item_base() + _dot_pos;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Hash code for the core (separated so we keep non overridden version). */
   public int core_hashCode()
     {
@@ -108,6 +108,61 @@ public class non_terminal extends symbol {
 
 		/* add it to the table, keyed with itself */
 		_productions.put(prod, prod);
+		_production_array = null;
+		_closure_templates = null;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/** Productions with this non terminal on the LHS, in productions() order. */
+	protected production[] _production_array;
+
+	/**
+	 * Productions with this non terminal on the LHS as an array, in the same
+	 * order productions() enumerates them. Once built it is kept until another
+	 * production is added; it is built ahead of state machine construction so
+	 * that threads building the machine only read it.
+	 */
+	public production[] production_array() {
+		if (_production_array == null) {
+			production[] prods = new production[_productions.size()];
+			int i = 0;
+			for (Enumeration<production> e = productions(); e
+					.hasMoreElements();)
+				prods[i++] = e.nextElement();
+			_production_array = prods;
+		}
+		return _production_array;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/** LR(0) items with the dot at the start of production_array(). */
+	protected lalr_item[] _closure_templates;
+
+	/**
+	 * The closure template of this non terminal: an item with the dot at the
+	 * start (and no lookahead) for each production of production_array(), in
+	 * the same order. Closing an item set looks its items up with these
+	 * rather than creating an item for every production it reaches. Null
+	 * until compute_closure_templates() is called.
+	 */
+	public lalr_item[] closure_templates() {
+		return _closure_templates;
+	}
+
+	/**
+	 * Build the closure template (see closure_templates()). Like
+	 * production_array() it is built ahead of state machine construction.
+	 */
+	public void compute_closure_templates(IErrorManager errorManager,
+			TerminalFactory terminalFactory) throws internal_error {
+		production[] prods = production_array();
+		lalr_item[] templates = new lalr_item[prods.length];
+		for (int k = 0; k < prods.length; k++)
+			templates[k] = new lalr_item(errorManager, terminalFactory,
+					prods[k]);
+		_closure_templates = templates;
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -66,6 +66,7 @@ public class production {
 			String action_str) throws internal_error {
 		this.errorManager = errorManager;
 		_first_set = new terminal_set(terminalFactory);
+		final String user_str = action_str;
 		int i;
 		action_part tail_action;
 		String declare_str;
@@ -106,7 +107,9 @@ public class production {
 		}
 
 		/* get the generated declaration code for the necessary labels. */
-		declare_str = declare_labels(emit, rhs_parts, rightlen, action_str);
+		declare_str = declare_labels(emit, rhs_parts, rightlen,
+				(rightlen < rhs_l) ? ((action_part) rhs_parts[rightlen])
+						.code_string() : action_str);
 
 		if (action_str == null)
 			action_str = declare_str;
@@ -127,6 +130,10 @@ public class production {
 		if (tail_action != null)
 			_rhs_length--;
 
+		/* note whether the user wrote any code for the production */
+		_has_code = has_code(user_str)
+				|| (tail_action != null && has_code(tail_action.code_string()));
+
 		/*
 		 * Why does this run through the right hand side happen over and over?
 		 * here a quick combination of two prior runs plus one I wanted of my
@@ -237,6 +244,38 @@ public class production {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
+	/**
+	 * Did the user give action code for this production? (The code of
+	 * action() also declares the labels, so it is there in any case.)
+	 */
+	protected boolean _has_code;
+
+	/** Did the user give action code for this production? */
+	public boolean has_code() {
+		return _has_code;
+	}
+
+	/** Is a piece of action code more than white space? */
+	private static boolean has_code(String code) {
+		return code != null && code.trim().length() > 0;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Is this a unit production without action code whose right hand side
+	 * symbol has the type of the left hand side? The value of the right hand
+	 * side can then serve as the value of the left hand side as it is.
+	 */
+	public boolean is_chain_unit() {
+		if (_has_code || _rhs_length != 1 || !(_rhs[0] instanceof symbol_part))
+			return false;
+		return ((symbol_part) _rhs[0]).the_symbol().stack_type()
+				.equals(lhs().the_symbol().stack_type());
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/** Index number of the production. */
 	protected int _index;
 
@@ -251,6 +290,24 @@ public class production {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
+	/**
+	 * Number of the first LR item of the production (the one with the dot at
+	 * the start). Its rhs_length()+1 items are numbered consecutively from
+	 * here, and the numbers of all productions' items are dense.
+	 */
+	protected int _item_base;
+
+	/** Number of the first LR item of the production. */
+	public int item_base() {
+		return _item_base;
+	}
+
+	protected void setItemBase(int base) {
+		_item_base = base;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/** Count of number of reductions using this production. */
 	protected int _num_reductions = 0;
 
@@ -300,6 +357,93 @@ public class production {
 		return _first_set;
 	}
 
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * First sets and nullability of the suffixes of the right hand side, where
+	 * suffix pos runs from rhs(pos) to the end (so suffix rhs_length() is
+	 * empty). Filled in by compute_suffix_sets() once first sets and
+	 * nullability of all non terminals are known; null before that. The sets
+	 * are shared between suffixes and must not be modified.
+	 */
+	protected terminal_set[] _suffix_first;
+
+	/** Nullability of the suffixes of the right hand side. */
+	protected boolean[] _suffix_nullable;
+
+	/** Have the suffix first sets been computed? */
+	public boolean has_suffix_sets() {
+		return _suffix_first != null;
+	}
+
+	/**
+	 * First set of the right hand side from a position on: the terminals that
+	 * can start a string derived from rhs(pos) .. rhs(rhs_length()-1).
+	 * 
+	 * @param pos
+	 *            the position the suffix starts at.
+	 */
+	public terminal_set suffix_first(int pos) {
+		return _suffix_first[pos];
+	}
+
+	/**
+	 * Can the right hand side from a position on derive the empty string?
+	 * 
+	 * @param pos
+	 *            the position the suffix starts at.
+	 */
+	public boolean suffix_nullable(int pos) {
+		return _suffix_nullable[pos];
+	}
+
+	/**
+	 * Compute the first sets and nullability of all suffixes of the right hand
+	 * side, working back from its end. This must not be invoked before first
+	 * sets and nullability have been calculated for all non terminals.
+	 */
+	public void compute_suffix_sets() throws internal_error {
+		terminal_set[] first = new terminal_set[rhs_length() + 1];
+		boolean[] nullable = new boolean[rhs_length() + 1];
+		production_part part;
+		symbol sym;
+		non_terminal nt;
+
+		first[rhs_length()] = _first_set.EMPTY();
+		nullable[rhs_length()] = true;
+		for (int pos = rhs_length() - 1; pos >= 0; pos--) {
+			part = rhs(pos);
+
+			/* actions don't contribute anything */
+			if (part.is_action()) {
+				first[pos] = first[pos + 1];
+				nullable[pos] = nullable[pos + 1];
+				continue;
+			}
+
+			sym = ((symbol_part) part).the_symbol();
+			if (!sym.is_non_term()) {
+				/* a terminal starts the suffix by itself */
+				first[pos] = _first_set.EMPTY();
+				first[pos].add((terminal) sym);
+				nullable[pos] = false;
+			} else {
+				/* a non terminal, followed by the rest if it is nullable */
+				nt = (non_terminal) sym;
+				if (nt.nullable()) {
+					first[pos] = new terminal_set(first[pos + 1]);
+					first[pos].add(nt.first_set());
+					nullable[pos] = nullable[pos + 1];
+				} else {
+					first[pos] = nt.first_set();
+					nullable[pos] = false;
+				}
+			}
+		}
+		_suffix_first = first;
+		_suffix_nullable = nullable;
+	}
+
 	/*-----------------------------------------------------------*/
 	/*--- Static Methods ----------------------------------------*/
 	/*-----------------------------------------------------------*/
@@ -317,10 +461,15 @@ public class production {
 	 *            the label name
 	 * @param stack_type
 	 *            the stack type of label?
+	 * @param code
+	 *            the action code the label is declared for (may be null).
+	 * @param is_non_term
+	 *            whether the label is on a non terminal (whose value may be
+	 *            kept unboxed).
 	 * @author frankf
 	 */
 	protected String make_declaration(Emitter emit, String labelname,
-			String stack_type, int offset) {
+			String stack_type, int offset, String code, boolean is_non_term) {
 		String ret;
 
 		/* Put in the left/right value labels */
@@ -343,7 +492,8 @@ public class production {
 						// TUM 20050917
 						((offset == 0) ? ".peek()" : (".elementAt("
 								+ emit.pre("top") + "-" + offset + ")"))
-						+ ").right;\n";
+						+ ").right;\n"
+						+ make_location_declarations(emit, labelname, code);
 			else
 				ret = "\t\tLocation "
 						+ labelname
@@ -366,6 +516,13 @@ public class production {
 		} else
 			ret = "";
 
+		/* values of primitive non terminals may come from the value column */
+		String unboxed = is_non_term ? emit.unboxed_value(stack_type, offset)
+				: null;
+		if (unboxed != null)
+			return ret + "\t\t" + stack_type + " " + labelname + " = "
+					+ unboxed + ";\n";
+
 		/* otherwise, just declare label. */
 		return ret
 				+ "\t\t"
@@ -386,6 +543,35 @@ public class production {
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
 
+	/**
+	 * Return the declarations of the xleft/xright Locations of a label that
+	 * the -loc_table option materializes from the parser's LocationTable.
+	 * Only those the action code mentions are declared, so the others are
+	 * never built.
+	 * 
+	 * @param labelname
+	 *            the label name
+	 * @param code
+	 *            the action code (may be null).
+	 */
+	protected String make_location_declarations(Emitter emit,
+			String labelname, String code) {
+		if (!emit.loc_table() || code == null)
+			return "";
+		String ret = "";
+		if (code.indexOf(labelname + "xleft") >= 0)
+			ret += "\t\tLocation " + labelname + "xleft = "
+					+ emit.pre("parser") + ".getLocationTable().left("
+					+ labelname + "left);\n";
+		if (code.indexOf(labelname + "xright") >= 0)
+			ret += "\t\tLocation " + labelname + "xright = "
+					+ emit.pre("parser") + ".getLocationTable().right("
+					+ labelname + "right);\n";
+		return ret;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
 	/**
 	 * Declare label names as valid variables within the action string
 	 * 
@@ -416,7 +602,9 @@ public class production {
 						label = part.the_symbol().name() + pos;
 					declaration = declaration
 							+ make_declaration(emit, label, part.the_symbol()
-									.stack_type(), rhs_len - pos - 1);
+									.stack_type(), rhs_len - pos - 1,
+									final_action, part.the_symbol()
+											.is_non_term());
 				}
 			}
 		}
@@ -544,7 +732,8 @@ public class production {
 		for (int act_loc = 0; act_loc < rhs_length(); act_loc++)
 			if (rhs(act_loc).is_action()) {
 
-				declare_str = declare_labels(emit, _rhs, act_loc, "");
+				declare_str = declare_labels(emit, _rhs, act_loc,
+						((action_part) rhs(act_loc)).code_string());
 				/* create a new non terminal for the action production */
 				new_nt = nonTerminalFactory.create_new(null, lhs().the_symbol()
 						.stack_type()); // TUM 20060608 embedded actions patch
@@ -0,0 +1,42 @@
+package java_cup.runtime;
+
+/**
+ * Defines a Scanner that can deliver many tokens per call.  When the
+ * scanner of a parser implements this interface (and the parser does not
+ * replace <code>lr_parser.scan()</code> with a "scan with" clause of its
+ * own), the parser reads its input through <code>next_tokens()</code> into
+ * a buffer and takes the tokens from there, so the scanner's loop and the
+ * parser's loop each run for a stretch of tokens instead of alternating
+ * on every one.  The parser may read up to a buffer's worth of tokens
+ * beyond the last one it uses (after an error it cannot recover from, say).<p>
+ *
+ * A JFlex lexer generated with <code>%cup</code> can implement it by
+ * calling its own <code>next_token()</code> in a loop, which is then an
+ * ordinary call within the lexer class:
+ * <pre>
+ *   %implements java_cup.runtime.BatchScanner
+ *   %{
+ *     public int next_tokens(Symbol[] buffer) throws java.io.IOException {
+ *       int n = 0;
+ *       while (n &lt; buffer.length) {
+ *         Symbol s = next_token();
+ *         if (s == null) break;
+ *         buffer[n++] = s;
+ *         if (s.sym == sym.EOF) break;
+ *       }
+ *       return n;
+ *     }
+ *   %}
+ * </pre>
+ *
+ * @see java_cup.runtime.lr_parser
+ */
+public interface BatchScanner extends Scanner {
+    /**
+     * Store the next tokens in a buffer, from its start on.  As with
+     * <code>next_token()</code>, every token must be a fresh object.
+     * @param buffer the buffer to fill (its contents may be overwritten).
+     * @return the number of tokens stored; 0 on end-of-file.
+     */
+    public int next_tokens(Symbol[] buffer) throws java.lang.Exception;
+}
@@ -0,0 +1,128 @@
+package java_cup.runtime;
+
+import java_cup.runtime.ComplexSymbolFactory.Location;
+
+/**
+ * Positions of the tokens of one input, kept in int columns rather than
+ * in Location objects.  The scanner records the start and end of every
+ * token with add() and gives the token plain Symbol positions: the index
+ * add() returned, as both left and right.  Since the parser gives a non
+ * terminal the left position of its first and the right position of its
+ * last Symbol, the positions of every Symbol are then token indexes, and
+ * Locations are only built when someone asks for one: the actions of a
+ * parser generated with -loc_table (for the xleft/xright handles they
+ * use), or the default error report of lr_parser.  For large inputs this
+ * takes six ints per token instead of a ComplexSymbol and two Locations.
+ * <p>
+ *
+ * A scanner (here one generated by JFlex with %line, %column and %char)
+ * would create its tokens like this:
+ * <pre>
+ *   private Symbol token(int id, Object value) {
+ *     int end = yychar + yylength();
+ *     int i = table.add(yyline+1, yycolumn+1, yychar,
+ *                       yyline+1, yycolumn+1+yylength(), end);
+ *     return new Symbol(id, i, i, value);
+ *   }
+ * </pre>
+ * and the parser is told about the table with setLocationTable().  A
+ * table, like the parser, must only be used by one thread at a time.
+ *
+ * @see java_cup.runtime.lr_parser
+ */
+public class LocationTable {
+    /** Number of columns per token. */
+    private static final int COLUMNS = 6;
+
+    /** Compilation unit the tokens come from. */
+    private final String unit;
+    /** Left line, column and offset and right line, column and offset of
+     *  each token, one after the other. */
+    private int[] data;
+    /** Number of tokens recorded. */
+    private int size;
+
+    /**
+     * Constructor for the positions of the tokens of a compilation unit.
+     * @param unit the compilation unit, e.g. file name
+     */
+    public LocationTable(String unit){
+        this.unit = unit;
+        data = new int[COLUMNS * 256];
+    }
+
+    /**
+     * Records the positions of the next token.
+     * @return the index of the token, to use as the left and right
+     *         position of its Symbol
+     */
+    public int add(int left_line, int left_column, int left_offset,
+                   int right_line, int right_column, int right_offset){
+        int at = size * COLUMNS;
+        if (at == data.length) {
+            int[] grown = new int[data.length * 2];
+            System.arraycopy(data, 0, grown, 0, at);
+            data = grown;
+        }
+        data[at]   = left_line;
+        data[at+1] = left_column;
+        data[at+2] = left_offset;
+        data[at+3] = right_line;
+        data[at+4] = right_column;
+        data[at+5] = right_offset;
+        return size++;
+    }
+    /**
+     * Forgets all tokens (keeping the storage), to reuse the table for
+     * another input of the same compilation unit.
+     */
+    public void clear(){
+        size = 0;
+    }
+    /**
+     * The number of tokens recorded.
+     */
+    public int size(){
+        return size;
+    }
+    /**
+     * The compilation unit the tokens come from.
+     */
+    public String getUnit(){
+        return unit;
+    }
+
+    /** Line where a token starts. */
+    public int left_line(int token)    { return data[token*COLUMNS]; }
+    /** Column where a token starts. */
+    public int left_column(int token)  { return data[token*COLUMNS+1]; }
+    /** Offset where a token starts. */
+    public int left_offset(int token)  { return data[token*COLUMNS+2]; }
+    /** Line where a token ends. */
+    public int right_line(int token)   { return data[token*COLUMNS+3]; }
+    /** Column where a token ends. */
+    public int right_column(int token) { return data[token*COLUMNS+4]; }
+    /** Offset where a token ends. */
+    public int right_offset(int token) { return data[token*COLUMNS+5]; }
+
+    /**
+     * Builds the Location where a token starts.
+     * @param token the index of the token (a Symbol's left position)
+     * @return the Location, or null for an unknown position (-1)
+     */
+    public Location left(int token){
+        if (token < 0 || token >= size) return null;
+        return new Location(unit, left_line(token), left_column(token),
+                            left_offset(token));
+    }
+    /**
+     * Builds the Location where a token ends.
+     * @param token the index of the token (a Symbol's right position)
+     * @return the Location, or null for an unknown position (-1)
+     */
+    public Location right(int token){
+        if (token < 0 || token >= size) return null;
+        return new Location(unit, right_line(token), right_column(token),
+                            right_offset(token));
+    }
+}
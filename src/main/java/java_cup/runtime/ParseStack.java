@@ -0,0 +1,273 @@
+package java_cup.runtime;
+
+/** This class implements the parse stack used by lr_parser.  It holds
+ *  the state numbers in a growable array of ints and the Symbols in a
+ *  parallel array, so pushing, popping and indexing cost a couple of
+ *  array accesses and no synchronization, casts or boxing (unlike the
+ *  java.util.Stack used by older versions of the runtime).<p>
+ *
+ *  Generated action code indexes this stack exactly as it indexed the old
+ *  one, via elementAt() and peek(), so generated parsers receive it
+ *  directly in do_action() (unless generated with -legacy_stack).  The state
+ *  recorded for an element is also kept in Symbol.parse_state for the
+ *  benefit of existing code that reads it from there.<p>
+ *
+ *  Parsers generated with the -unboxed option also keep the values of non
+ *  terminals of primitive types (int, long, double, boolean and the like)
+ *  here, in a column of longs parallel to the states, rather than boxing
+ *  them into Symbol.value.  Their actions hand the value of the left hand
+ *  side to set_result() and it is stored with the Symbol pushed next;
+ *  int_at() and friends read the values of the right hand side.  The
+ *  column is only allocated once a value is stored.
+ *
+ * @see     java_cup.runtime.lr_parser
+ * @see     java_cup.runtime.virtual_parse_stack
+ */
+
+public final class ParseStack {
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Simple constructor. */
+  public ParseStack()
+    {
+      this(32);
+    }
+
+  /** Constructor with an initial capacity.
+   *
+   * @param capacity the number of elements to make room for up front.
+   */
+  public ParseStack(int capacity)
+    {
+      if (capacity < 1) capacity = 1;
+      states  = new int[capacity];
+      symbols = new Symbol[capacity];
+    }
+
+  /** Constructor making a copy of another stack (with no spare room).
+   *
+   * @param other the stack to copy.
+   */
+  public ParseStack(ParseStack other)
+    {
+      this(other.size);
+      System.arraycopy(other.states, 0, states, 0, other.size);
+      System.arraycopy(other.symbols, 0, symbols, 0, other.size);
+      if (other.values != null)
+	{
+	  values = new long[states.length];
+	  System.arraycopy(other.values, 0, values, 0, other.size);
+	}
+      size = other.size;
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** State numbers, bottom of the stack first. */
+  private int[] states;
+
+  /** Symbols, parallel to states. */
+  private Symbol[] symbols;
+
+  /** Values of primitive type (as bits), parallel to states, or null. */
+  private long[] values;
+
+  /** Value to store with the next Symbol pushed. */
+  private long result;
+
+  /** Number of elements on the stack. */
+  private int size;
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The number of elements on the stack. */
+  public int size() { return size; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Indicate whether the stack is empty. */
+  public boolean empty() { return size == 0; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Push a Symbol along with the state it leads to.
+   *
+   * @param sym   the Symbol to push.
+   * @param state the parse state recorded with it.
+   */
+  public void push(Symbol sym, int state)
+    {
+      if (size == states.length) grow();
+      states[size]  = state;
+      symbols[size] = sym;
+      if (values != null) values[size] = result;
+      size++;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop the top element, returning its Symbol. */
+  public Symbol pop()
+    {
+      Symbol top = symbols[--size];
+      symbols[size] = null;
+      return top;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop a number of elements (the handle of a production) at once.
+   *
+   * @param n the number of elements to pop.
+   */
+  public void npop(int n)
+    {
+      for (int i = 0; i < n; i++)
+	symbols[--size] = null;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the Symbol on the top of the stack (without popping it). */
+  public Symbol peek() { return symbols[size-1]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the state on the top of the stack. */
+  public int top_state() { return states[size-1]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the Symbol at a given index, counted from the bottom of the
+   *  stack (so the top is at size()-1).
+   *
+   * @param i the index of the element.
+   */
+  public Symbol elementAt(int i) { return symbols[i]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the state at a given index, counted from the bottom.
+   *
+   * @param i the index of the element.
+   */
+  public int state_at(int i) { return states[i]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Replace the state recorded for the top element, keeping its Symbol
+   *  (and value).
+   *
+   * @param state the new state.
+   */
+  public void set_top_state(int state) { states[size-1] = state; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Set the value of primitive type to store with the next Symbol pushed
+   *  (the left hand side of the production being reduced).
+   *
+   * @param v the value.
+   */
+  public void set_result(long v)
+    {
+      if (values == null) values = new long[states.length];
+      result = v;
+    }
+
+  /** Set the double value to store with the next Symbol pushed.
+   *
+   * @param v the value.
+   */
+  public void set_result(double v) { set_result(Double.doubleToRawLongBits(v)); }
+
+  /** Set the boolean value to store with the next Symbol pushed.
+   *
+   * @param v the value.
+   */
+  public void set_result(boolean v) { set_result(v ? 1L : 0L); }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the long value stored with an element.
+   *
+   * @param i the index of the element, counted from the bottom.
+   */
+  public long long_at(int i) { return values[i]; }
+
+  /** Return the int value stored with an element.
+   *
+   * @param i the index of the element, counted from the bottom.
+   */
+  public int int_at(int i) { return (int)values[i]; }
+
+  /** Return the double value stored with an element.
+   *
+   * @param i the index of the element, counted from the bottom.
+   */
+  public double double_at(int i) { return Double.longBitsToDouble(values[i]); }
+
+  /** Return the boolean value stored with an element.
+   *
+   * @param i the index of the element, counted from the bottom.
+   */
+  public boolean boolean_at(int i) { return values[i] != 0; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Remove all elements.  The storage is kept for the next parse. */
+  public void clear()
+    {
+      for (int i = 0; i < size; i++)
+	symbols[i] = null;
+      size = 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Replace the contents with those of another stack.
+   *
+   * @param other the stack to copy.
+   */
+  public void set(ParseStack other)
+    {
+      clear();
+      while (states.length < other.size) grow();
+      System.arraycopy(other.states, 0, states, 0, other.size);
+      System.arraycopy(other.symbols, 0, symbols, 0, other.size);
+      if (other.values != null)
+	{
+	  if (values == null) values = new long[states.length];
+	  System.arraycopy(other.values, 0, values, 0, other.size);
+	}
+      size = other.size;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Double the capacity of the stack. */
+  private void grow()
+    {
+      int[] new_states = new int[states.length * 2];
+      System.arraycopy(states, 0, new_states, 0, size);
+      states = new_states;
+      Symbol[] new_symbols = new Symbol[symbols.length * 2];
+      System.arraycopy(symbols, 0, new_symbols, 0, size);
+      symbols = new_symbols;
+      if (values != null)
+	{
+	  long[] new_values = new long[values.length * 2];
+	  System.arraycopy(values, 0, new_values, 0, size);
+	  values = new_values;
+	}
+    }
+
+  /*-----------------------------------------------------------*/
+
+}
@@ -0,0 +1,301 @@
+package java_cup.runtime;
+
+/** This class holds the parse tables of a parser in flat arrays.  The
+ *  packed rows of the action and reduce-goto tables, which generated
+ *  parsers supply as one short[] per state, are laid end to end in a
+ *  single short[] each, with an int[] of row offsets; the production
+ *  table becomes one short[] of lhs, rhs size pairs.  Lookups thus touch
+ *  two arrays instead of chasing a row reference per state.  Directly
+ *  indexed action tables and comb-packed reduce-goto tables (the
+ *  -dense_actions and -comb_reduce options) are flat already and are used
+ *  as they are.<p>
+ *
+ *  The action-less unit productions a parser generated with -chain_units
+ *  lists are marked, so the parser can reduce with them without calling
+ *  do_action() (see chain()), and so are the states that reduce whatever
+ *  the lookahead, if the parser was generated with -consistent (see
+ *  consistent_reduce()).<p>
+ *
+ *  A ParseTables object is immutable, so one instance serves every parser
+ *  of a grammar; lr_parser.parse_tables() builds it once per parser class.
+ *
+ * @see     java_cup.runtime.lr_parser
+ */
+
+public final class ParseTables {
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Constructor taking the tables in the form generated parsers supply.
+   *
+   * @param production  the production table.
+   * @param action      the packed action table (ignored if dense_action
+   *                    is given).
+   * @param reduce      the packed reduce-goto table (ignored if
+   *                    reduce_comb is given).
+   * @param dense_action the directly indexed action table, or null.
+   * @param dense_width the row width of dense_action.
+   * @param reduce_comb the {base, check, next} rows of the comb-packed
+   *                    reduce-goto table, or null.
+   */
+  public ParseTables(short[][] production, short[][] action,
+		     short[][] reduce, short[] dense_action, int dense_width,
+		     short[][] reduce_comb)
+    {
+      this(production, action, reduce, dense_action, dense_width,
+	   reduce_comb, null, null);
+    }
+
+  /** Constructor taking the tables in the form generated parsers supply,
+   *  along with the action-less unit productions and the reductions of
+   *  the consistent states.
+   *
+   * @param production  the production table.
+   * @param action      the packed action table (ignored if dense_action
+   *                    is given).
+   * @param reduce      the packed reduce-goto table (ignored if
+   *                    reduce_comb is given).
+   * @param dense_action the directly indexed action table, or null.
+   * @param dense_width the row width of dense_action.
+   * @param reduce_comb the {base, check, next} rows of the comb-packed
+   *                    reduce-goto table, or null.
+   * @param chain_productions the numbers of the action-less unit
+   *                    productions, or null.
+   * @param consistent  the reduce action (encoded as in the action table)
+   *                    of each consistent state, 0 for the others, or null.
+   */
+  public ParseTables(short[][] production, short[][] action,
+		     short[][] reduce, short[] dense_action, int dense_width,
+		     short[][] reduce_comb, short[] chain_productions,
+		     short[] consistent)
+    {
+      productions = new short[2*production.length];
+      for (int i = 0; i < production.length; i++)
+	{
+	  productions[2*i]   = production[i][0];
+	  productions[2*i+1] = production[i][1];
+	}
+
+      chain = new boolean[production.length];
+      if (chain_productions != null)
+	for (int i = 0; i < chain_productions.length; i++)
+	  chain[chain_productions[i]] = true;
+
+      this.consistent = consistent;
+
+      this.dense_action = dense_action;
+      this.dense_width  = dense_width;
+      if (dense_action == null)
+	{
+	  action_row = new int[action.length+1];
+	  actions    = flatten(action, action_row);
+	}
+      else
+	{
+	  action_row = null;
+	  actions    = null;
+	}
+
+      if (reduce_comb == null)
+	{
+	  reduce_row = new int[reduce.length+1];
+	  reduces    = flatten(reduce, reduce_row);
+	  reduce_base = reduce_check = reduce_next = null;
+	}
+      else
+	{
+	  reduce_row = null;
+	  reduces    = null;
+	  reduce_base  = reduce_comb[0];
+	  reduce_check = reduce_comb[1];
+	  reduce_next  = reduce_comb[2];
+	}
+    }
+
+  /** Lay rows end to end, recording where each starts in offsets (which
+   *  has one more entry, the end of the last row).  A missing row becomes
+   *  a lone default entry.
+   */
+  private static short[] flatten(short[][] rows, int[] offsets)
+    {
+      int size = 0;
+      for (int i = 0; i < rows.length; i++)
+	size += (rows[i] == null) ? 2 : rows[i].length;
+
+      short[] result = new short[size];
+      int n = 0;
+      for (int i = 0; i < rows.length; i++)
+	{
+	  offsets[i] = n;
+	  if (rows[i] == null)
+	    {
+	      result[n++] = -1;
+	      result[n++] = -1;
+	    }
+	  else
+	    {
+	      System.arraycopy(rows[i], 0, result, n, rows[i].length);
+	      n += rows[i].length;
+	    }
+	}
+      offsets[rows.length] = n;
+      return result;
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Left hand side non terminal and right hand side size of each
+   *  production, in pairs. */
+  private final short[] productions;
+
+  /** Which productions are action-less unit productions. */
+  private final boolean[] chain;
+
+  /** The reduce action of each consistent state (0 for others), or null. */
+  private final short[] consistent;
+
+  /** The packed action rows end to end, or null. */
+  private final short[] actions;
+
+  /** Start of each state's row in actions (plus the end), or null. */
+  private final int[] action_row;
+
+  /** The directly indexed action table, or null. */
+  private final short[] dense_action;
+
+  /** Row width of the directly indexed action table. */
+  private final int dense_width;
+
+  /** The packed reduce-goto rows end to end, or null. */
+  private final short[] reduces;
+
+  /** Start of each state's row in reduces (plus the end), or null. */
+  private final int[] reduce_row;
+
+  /** Rows of the comb-packed reduce-goto table, or null. */
+  private final short[] reduce_base, reduce_check, reduce_next;
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The non terminal on the left hand side of a production.
+   *
+   * @param prod the production number.
+   */
+  public short lhs(int prod) { return productions[2*prod]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The number of Symbols on the right hand side of a production.
+   *
+   * @param prod the production number.
+   */
+  public short rhs_size(int prod) { return productions[2*prod+1]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Is a production an action-less unit production, whose value is that
+   *  of its one right hand side Symbol?  Reducing with it then comes down
+   *  to relabelling that Symbol and its state.
+   *
+   * @param prod the production number.
+   */
+  public boolean chain(int prod) { return chain[prod]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Are the consistent states known (see consistent_reduce())? */
+  public boolean has_consistent() { return consistent != null; }
+
+  /** The reduce action (encoded as in the action table) of a state that
+   *  has no shifts and reduces by one production under every terminal it
+   *  does not reject, or 0 for any other state.  In such a state the
+   *  parser can reduce without reading the lookahead: if that is in error,
+   *  the error is found in the state reduced to, before it is shifted.
+   *  Only valid if has_consistent().
+   *
+   * @param state the state.
+   */
+  public short consistent_reduce(int state) { return consistent[state]; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Fetch an action, encoded as described for lr_parser.action_table().
+   *  A packed row is searched linearly if it is short and by binary search
+   *  otherwise; a directly indexed table is simply read.
+   *
+   * @param state the state index of the action being accessed.
+   * @param sym   the Symbol index of the action being accessed.
+   */
+  public short action(int state, int sym)
+    {
+      if (dense_action != null)
+	return (sym < dense_width) ? dense_action[state*dense_width + sym] : 0;
+
+      int start = action_row[state];
+      int end   = action_row[state+1];
+
+      /* linear search if we are < 10 entries */
+      if (end - start < 20)
+	{
+	  for (int probe = start; probe < end; probe += 2)
+	    {
+	      /* is this entry labeled with our Symbol or the default? */
+	      short tag = actions[probe];
+	      if (tag == sym || tag == -1)
+		return actions[probe+1];
+	    }
+	  /* shouldn't happen, but if we run off the end it's an error */
+	  return 0;
+	}
+
+      /* otherwise binary search, leaving out the trailing default entry */
+      int first = 0;
+      int last  = (end-start-1)/2 - 1;
+      while (first <= last)
+	{
+	  int mid   = (first+last)/2;
+	  int probe = start + mid*2;
+	  if (sym == actions[probe])
+	    return actions[probe+1];
+	  else if (sym > actions[probe])
+	    first = mid+1;
+	  else
+	    last = mid-1;
+	}
+
+      /* not found, use the default at the end */
+      return actions[end-1];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Fetch a state from the reduce-goto table, or -1 if there is none.
+   *
+   * @param state the state index of the entry being accessed.
+   * @param sym   the Symbol index of the entry being accessed.
+   */
+  public short reduce(int state, int sym)
+    {
+      if (reduce_base != null)
+	{
+	  int probe = (reduce_base[state] & 0xFFFF) + sym;
+	  return (reduce_check[probe] == state) ? reduce_next[probe] : -1;
+	}
+
+      int end = reduce_row[state+1];
+      for (int probe = reduce_row[state]; probe < end; probe += 2)
+	{
+	  /* is this entry labeled with our Symbol or the default? */
+	  short tag = reduces[probe];
+	  if (tag == sym || tag == -1)
+	    return reduces[probe+1];
+	}
+      /* if we run off the end we return the default (error == -1) */
+      return -1;
+    }
+}
@@ -0,0 +1,92 @@
+package java_cup.runtime;
+
+import java.util.ArrayList;
+
+/**
+ * A pool of parsers of one class, for programs that parse on several
+ * threads at once.  Each parser is used by one thread at a time, so rather
+ * than creating a parser for every input a thread acquires one from the
+ * pool, parses and releases it again.  Since the parse tables are shared by
+ * all parsers of a class anyway, a pooled parser only saves the per-parse
+ * state (stacks, buffers and whatever the parser's own code allocates).<p>
+ *
+ * Subclasses say how to create a parser:
+ * <pre>
+ *   ParserPool&lt;parser&gt; pool = new ParserPool&lt;parser&gt;() {
+ *       protected parser create() { return new parser(); }
+ *   };
+ *   ...
+ *   parser p = pool.acquire(new Lexer(reader));
+ *   try { result = p.parse(); } finally { pool.release(p); }
+ * </pre>
+ * A parser comes out of the pool without a LocationTable; one that reports
+ * locations from a table needs the table of its new input set after
+ * acquire().
+ * The pool itself may be used from any number of threads.
+ *
+ * @see java_cup.runtime.lr_parser
+ */
+public abstract class ParserPool<P extends lr_parser> {
+    /** Default upper bound on the number of idle parsers kept. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Idle parsers waiting to be reused. */
+    private final ArrayList<P> idle = new ArrayList<P>();
+    /** Maximum number of idle parsers kept. */
+    private final int capacity;
+
+    /**
+     * Constructor for a pool keeping at most DEFAULT_CAPACITY idle parsers.
+     */
+    public ParserPool(){
+        this(DEFAULT_CAPACITY);
+    }
+    /**
+     * Constructor for a pool keeping at most capacity idle parsers; parsers
+     * released into a full pool are left to the garbage collector.
+     * @param capacity maximum number of idle parsers kept
+     */
+    public ParserPool(int capacity){
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new parser when none is idle.
+     */
+    protected abstract P create();
+
+    /**
+     * Takes an idle parser out of the pool, or creates one, and resets it
+     * to parse the input of a scanner.
+     * @param s the scanner to parse from
+     */
+    public P acquire(Scanner s){
+        P p = null;
+        synchronized (idle) {
+            if (!idle.isEmpty()) p = idle.remove(idle.size()-1);
+        }
+        if (p == null) p = create();
+        p.reset(s);
+        return p;
+    }
+    /**
+     * Hands a parser back once its parse is over (whether it succeeded or
+     * not).  The parser lets go of its input and must no longer be used by
+     * the caller.
+     * @param p the parser to return to the pool
+     */
+    public void release(P p){
+        p.reset(null);
+        synchronized (idle) {
+            if (idle.size() < capacity) idle.add(p);
+        }
+    }
+    /**
+     * The number of idle parsers currently pooled.
+     */
+    public int idle(){
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+}
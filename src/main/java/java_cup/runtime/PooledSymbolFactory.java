@@ -0,0 +1,103 @@
+package java_cup.runtime;
+
+/**
+ * SymbolFactory that recycles plain Symbols instead of allocating a new
+ * one for every token and every reduction.  When an lr_parser uses this
+ * factory it hands the Symbols of each handle back via release() as soon
+ * as the reduce action has run, and the next newSymbol() call reuses them.
+ * Every reuse bumps the Symbol's generation, so the parser's check against
+ * scanners that return the same Symbol twice keeps working.<p>
+ *
+ * Symbols are created exactly like DefaultSymbolFactory creates them.  The
+ * scanner should obtain its tokens from the same factory (they end up in
+ * the pool either way).  Pooling is only safe if nothing keeps references
+ * to Symbols once the parser has reduced them: the scanner must not buffer
+ * tokens it has returned, and actions must only keep values, never the
+ * Symbols on the parse stack.  A factory (like the parser using it) must
+ * only be used by one thread at a time.
+ *
+ * @see java_cup.runtime.lr_parser
+ */
+public class PooledSymbolFactory implements SymbolFactory {
+    /** Default upper bound on the number of idle Symbols kept. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Idle Symbols waiting to be reused. */
+    private final Symbol[] pool;
+    /** Number of idle Symbols in the pool. */
+    private int idle;
+
+    /**
+     * Constructor for a pool holding at most DEFAULT_CAPACITY idle Symbols.
+     */
+    public PooledSymbolFactory(){
+        this(DEFAULT_CAPACITY);
+    }
+    /**
+     * Constructor for a pool holding at most capacity idle Symbols; Symbols
+     * released into a full pool are left to the garbage collector.
+     * @param capacity maximum number of idle Symbols kept
+     */
+    public PooledSymbolFactory(int capacity){
+        pool = new Symbol[capacity];
+    }
+
+    /**
+     * Hands a Symbol back to the pool once nothing references it anymore.
+     * Called by the parser for the Symbols it pops off the stack on a reduce.
+     * @param s the Symbol to recycle
+     */
+    public void release(Symbol s){
+        if (idle < pool.length) {
+            s.value = null;
+            pool[idle++] = s;
+        }
+    }
+    /**
+     * The number of idle Symbols currently pooled.
+     */
+    public int idle(){
+        return idle;
+    }
+
+    /**
+     * Fetch a Symbol from the pool (or allocate one) and initialize it.
+     */
+    private Symbol obtain(int id, int left, int right, Object value){
+        if (idle == 0)
+            return new Symbol(id,left,right,value);
+        Symbol s = pool[--idle];
+        pool[idle] = null;
+        s.generation++;
+        s.sym = id;
+        s.parse_state = 0;
+        s.left = left;
+        s.right = right;
+        s.value = value;
+        return s;
+    }
+
+    public Symbol newSymbol(String name ,int id, Symbol left, Symbol right, Object value){
+        return obtain(id,left.left,right.right,value);
+    }
+    public Symbol newSymbol(String name, int id, Symbol left, Symbol right){
+        return obtain(id,left.left,right.right,null);
+    }
+    public Symbol newSymbol(String name, int id, int left, int right, Object value){
+        return obtain(id,left,right,value);
+    }
+    public Symbol newSymbol(String name, int id, int left, int right){
+        return obtain(id,left,right,null);
+    }
+    public Symbol startSymbol(String name, int id, int state){
+        Symbol s = obtain(id,0,0,null);
+        s.parse_state = state;
+        return s;
+    }
+    public Symbol newSymbol(String name, int id){
+        return obtain(id,-1,-1,null);
+    }
+    public Symbol newSymbol(String name, int id, Object value){
+        return obtain(id,-1,-1,value);
+    }
+}
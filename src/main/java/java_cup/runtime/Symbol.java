@@ -93,8 +93,22 @@ public class Symbol {
    */
   public int parse_state;
   /** This allows us to catch some errors caused by scanners recycling
-   *  symbols.  For the use of the parser only. [CSA, 23-Jul-1999] */
-  boolean used_by_parser = false;
+   *  symbols.  For the use of the parser only. [CSA, 23-Jul-1999]
+   *  The parser records the generation (see below) it consumed this
+   *  Symbol in; the Symbol counts as used while the two agree. */
+  int used_by_parser = -1;
+
+  /** The generation of this Symbol object.  A pooling SymbolFactory bumps
+   *  this whenever it hands the object out again, which makes it fresh
+   *  for the parser without touching anything else. */
+  int generation = 0;
+
+  /** Has the parser already consumed this Symbol (in its current
+   *  generation)? */
+  boolean is_used() { return used_by_parser == generation; }
+
+  /** Record that the parser has consumed this Symbol. */
+  void mark_used() { used_by_parser = generation; }
 
 /*******************************
   The data passed to parser
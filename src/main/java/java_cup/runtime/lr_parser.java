@@ -1,6 +1,16 @@
 				    
 package java_cup.runtime;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Stack;
 
 /** This class implements a skeleton table driven LR parser.  In general,
@@ -105,8 +115,19 @@ import java.util.Stack;
  *         report_fatal_error("Couldn't repair and continue parse", null);
  *  </dl>
  *
+ *  A parser holds the state of one parse at a time and must only be used
+ *  by one thread at a time.  It may be used for any number of parses in 
+ *  turn, though: reset() hands it a new scanner and lets go of everything
+ *  left from the previous parse while keeping its stacks and buffers for
+ *  reuse.  The parse tables are immutable and shared by all parsers of a 
+ *  class (see parse_tables()), so a parser per thread, or a ParserPool, 
+ *  costs only the per-parse state.  The action object is created afresh by
+ *  init_actions() at the start of each parse, so state kept by action code
+ *  does not carry over from one parse to the next.
+ *
  * @see     java_cup.runtime.Symbol
  * @see     java_cup.runtime.Symbol
+ * @see     java_cup.runtime.ParseStack
  * @see     java_cup.runtime.virtual_parse_stack
  * @version last updated: 7/3/96
  * @author  Frank Flannery
@@ -211,6 +232,66 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The directly indexed action table (optionally supplied by generated
+   *  subclass, see the -dense_actions option).  The action for a state and
+   *  terminal is stored at <code>state*dense_action_width()+sym</code> using
+   *  the same encoding as action_table(), so a lookup is a single array 
+   *  read.  Parsers that supply this table need not supply action_table().
+   *  Here in the base class we return null, which selects the packed table.
+   *
+   * @see java_cup.runtime.lr_parser#get_action
+   */
+  public short[] dense_action_table() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The row width of dense_action_table(), i.e. the number of terminals
+   *  (supplied by generated subclass along with the table). 
+   */
+  public int dense_action_width() {return 0;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The reduce-goto table packed by row displacement (optionally supplied
+   *  by generated subclass, see the -comb_reduce option).  This has three
+   *  rows: base, check and next.  The entry for a state and non-terminal 
+   *  lives at index <code>i = (base[state] &amp; 0xFFFF) + sym</code> of the
+   *  other two rows and is valid only if <code>check[i] == state</code>.
+   *  Parsers that supply this table need not supply reduce_table().  Here in
+   *  the base class we return null, which selects the sparse rows.
+   *
+   * @see java_cup.runtime.lr_parser#get_reduce
+   */
+  public short[][] reduce_comb_table() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The numbers of the productions that consist of a single non terminal
+   *  of the left hand side's type and have no action code (optionally
+   *  supplied by generated subclass, see the -chain_units option).  parse()
+   *  reduces with these by retarget_top() rather than do_action(), which
+   *  for them passes the value of the Symbol on.  The Symbol is relabelled
+   *  in place, so one the symbol factory gave a name (like a
+   *  ComplexSymbol) keeps the name of the right hand side.  Here in the
+   *  base class we return null: every reduction goes through do_action().
+   */
+  public short[] chain_productions() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The reduce action of each state that has no shifts and a single
+   *  reduction, 0 for every other state (optionally supplied by generated
+   *  subclass, see the -consistent option).  parse() reduces in these
+   *  states without reading the next Symbol, and only reads one when a
+   *  state needs it, so a reduction (and its action) happens as soon as
+   *  the input determines it.  cur_token is null in between, also while
+   *  actions run.  Here in the base class we return null: the next Symbol
+   *  is read after every shift.
+   */
+  public short[] consistent_table() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** The index of the start state (supplied by generated subclass). */
   public abstract int start_state();
 
@@ -263,25 +344,45 @@ public abstract class lr_parser {
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
   /** The parse stack itself. */
+  protected ParseStack parse_stack = new ParseStack();
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The parse stack as seen by parsers whose actions index a 
+   *  java.util.Stack.  This is only kept in step with parse_stack when 
+   *  legacy_stack() says so; otherwise it stays empty. 
+   */
   protected Stack stack = new Stack();
 
+  /** Do we keep the legacy stack in step for the current parse? */
+  private boolean mirror_stack;
+
+  /** The symbol factory, if it pools Symbols we should hand back. */
+  private PooledSymbolFactory symbol_pool;
+
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Direct reference to the production table. */ 
+  /** Direct reference to the production table.  Kept for subclasses that
+   *  read it; the parser itself goes through tables. */ 
   protected short[][] production_tab;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Direct reference to the action table. */
+  /** Direct reference to the action table (see production_tab). */
   protected short[][] action_tab;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Direct reference to the reduce-goto table. */
+  /** Direct reference to the reduce-goto table (see production_tab). */
   protected short[][] reduce_tab;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The flat tables driving the current parse. */
+  protected ParseTables tables;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** This is the scanner object used by the default implementation
    *  of scan() to get Symbols.  To avoid name conflicts with existing
    *  code, this field is private. [CSA/davidm] */
@@ -297,25 +398,118 @@ public abstract class lr_parser {
    */
   public Scanner getScanner() { return _scanner; }
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Positions of the tokens of the input, if the scanner records them in
+   *  a LocationTable (null otherwise). */
+  private LocationTable _location_table;
+
+  /**
+   * Simple accessor method to set the table of token positions (in which
+   * the left and right positions of Symbols are indexes).  The table
+   * belongs to one input: reset() drops it, so a parser that is reset
+   * (or acquired from a ParserPool) needs the table of its new input.
+   */
+  public void setLocationTable(LocationTable t) { _location_table = t; }
+
+  /**
+   * Simple accessor method to get the table of token positions.
+   */
+  public LocationTable getLocationTable() { return _location_table; }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Make the parser ready for a new parse of the input of a scanner.  
+   *  Everything left over from the previous parse is dropped (so it can 
+   *  be garbage collected) but the parse stack and lookahead buffer keep 
+   *  their storage.  The LocationTable of the old input is dropped as
+   *  well.  A parser that is done with may be reset with a null
+   *  scanner to let go of its input.
+   *
+   * @param s the scanner for the next parse (or null).
+   */
+  public void reset(Scanner s)
+    {
+      setScanner(s);
+      _location_table = null;
+      _done_parsing = false;
+      cur_token = null;
+      tos = 0;
+      parse_stack.clear();
+      stack.removeAllElements();
+      if (lookahead != null)
+	for (int i = 0; i < lookahead.length; i++)
+	  lookahead[i] = null;
+      lookahead_pos = 0;
+      discard_checkpoints(0);
+      pushing = false;
+      pending.clear();
+      pending_pos = 0;
+      recovery_stack = null;
+      recovery_token = null;
+      push_result = null;
+      batch_scanner = null;
+      batch_pos = batch_len = 0;
+      if (batch != null) Arrays.fill(batch, null);
+    }
+
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
   /*-----------------------------------------------------------*/
 
   /** Perform a bit of user supplied action code (supplied by generated 
    *  subclass).  Actions are indexed by an internal action number assigned
-   *  at parser generation time.
+   *  at parser generation time.  This is the form supplied by parsers 
+   *  whose actions index the legacy java.util.Stack: those generated with
+   *  the -legacy_stack option or by older versions of CUP.
    *
    * @param act_num   the internal index of the action to be performed.
    * @param parser    the parser object we are acting for.
    * @param stack     the parse stack of that object.
    * @param top       the index of the top element of the parse stack.
    */
-  public abstract Symbol do_action(
+  public Symbol do_action(
     int       act_num, 
     lr_parser parser, 
     Stack     stack, 
     int       top) 
-    throws java.lang.Exception;
+    throws java.lang.Exception
+    {
+      throw new Exception(
+	"Internal parser error: no action code for the legacy parse stack");
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Perform a bit of user supplied action code, indexing the primitive
+   *  parse stack (supplied by generated subclasses by default).
+   *  Here in the base class we hand the legacy stack, which is being kept
+   *  in step, to the older form of this method.
+   *
+   * @param act_num   the internal index of the action to be performed.
+   * @param parser    the parser object we are acting for.
+   * @param stack     the parse stack of that object.
+   * @param top       the index of the top element of the parse stack.
+   */
+  public Symbol do_action(
+    int        act_num, 
+    lr_parser  parser, 
+    ParseStack stack, 
+    int        top) 
+    throws java.lang.Exception
+    {
+      return do_action(act_num, parser, this.stack, top);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Indicates whether the actions of this parser index the legacy 
+   *  java.util.Stack, so the runtime has to keep the stack field in step
+   *  with the primitive parse stack.  Generated parsers override this to
+   *  return false unless generated with the -legacy_stack option; it is
+   *  true here for parsers generated by older versions of CUP. 
+   */
+  public boolean legacy_stack() {return true;}
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -353,6 +547,104 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Number of Symbols the parser has read with scan() so far. */
+  private int tokens_read;
+
+  /** Number of Symbols read from a BatchScanner at a time. */
+  private static final int BATCH_SIZE = 64;
+
+  /** The scanner, if the current parse reads it in batches, else null. */
+  private BatchScanner batch_scanner;
+
+  /** Buffer of Symbols read from batch_scanner, with the position of the 
+   *  next one to use and the number of Symbols in it. 
+   */
+  private Symbol[] batch;
+  private int batch_pos, batch_len;
+
+  /** Do parsers of a class replace scan() (so they don't simply read 
+   *  from getScanner())? 
+   */
+  private static final ClassValue<Boolean> scan_replaced =
+    new ClassValue<Boolean>() {
+      protected Boolean computeValue(Class<?> type) {
+	try
+	  {
+	    return Boolean.valueOf(type.getMethod("scan").getDeclaringClass()
+				   != lr_parser.class);
+	  }
+	catch (NoSuchMethodException e)
+	  {
+	    return Boolean.TRUE;
+	  }
+      }
+    };
+
+  /** Set up the input of a pull parse (parse(), debug_parse() or 
+   *  reparse()): drop whatever a push parse left behind, if it ended with
+   *  an exception, and decide how to read.
+   */
+  private void start_pull()
+    {
+      pushing = false;
+      pending.clear();
+      pending_pos = 0;
+      input_ended = false;
+      recovery_stack = null;
+      recovery_token = null;
+      push_result = null;
+      select_input();
+    }
+
+  /** Decide how the parse about to start reads its input: in batches if
+   *  the scanner is a BatchScanner and scan() is the default one.
+   */
+  private void select_input()
+    {
+      batch_pos = batch_len = 0;
+      if (getScanner() instanceof BatchScanner && 
+	  !scan_replaced.get(getClass()).booleanValue())
+	{
+	  batch_scanner = (BatchScanner)getScanner();
+	  if (batch == null) batch = new Symbol[BATCH_SIZE];
+	}
+      else
+	batch_scanner = null;
+    }
+
+  /** Read the next Symbol, counting it.  That is the next one from scan(),
+   *  or from the batch buffer, or in a push parse the next one offered.
+   */
+  private Symbol next_input() throws java.lang.Exception
+    {
+      if (!pushing)
+	{
+	  tokens_read++;
+	  if (batch_scanner == null) return scan();
+	  if (batch_pos == batch_len)
+	    {
+	      batch_pos = 0;
+	      batch_len = Math.max(0, batch_scanner.next_tokens(batch));
+	      if (batch_len == 0)
+		return getSymbolFactory().newSymbol("END_OF_FILE",EOF_sym());
+	    }
+	  return batch[batch_pos++];
+	}
+      if (pending_pos < pending.size())
+	{
+	  tokens_read++;
+	  return pending.get(pending_pos++);
+	}
+      if (input_ended)
+	{
+	  tokens_read++;
+	  return getSymbolFactory().newSymbol("END_OF_FILE",EOF_sym());
+	}
+      throw need_input;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Report a fatal error.  This method takes a  message string and an 
    *  additional object (to be used by specializations implemented in 
    *  subclasses).  Here in the base class a very simple implementation 
@@ -392,7 +684,9 @@ public abstract class lr_parser {
       System.err.print(message);
       System.err.flush();
       if (info instanceof Symbol)
-	if (((Symbol)info).left != -1)
+	if (((Symbol)info).left != -1 && _location_table != null)
+	System.err.println(" at " + _location_table.left(((Symbol)info).left));
+	else if (((Symbol)info).left != -1)
 	System.err.println(" at character " + ((Symbol)info).left + 
 			   " of input");
 	else System.err.println("");
@@ -433,51 +727,15 @@ public abstract class lr_parser {
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a Symbol index of -1).  To find the proper entry in a row 
    *  we do a linear or binary search (depending on the size of the row).  
+   *  If the generated subclass supplied a directly indexed table instead, 
+   *  the entry is simply read out of that.
    *
    * @param state the state index of the action being accessed.
    * @param sym   the Symbol index of the action being accessed.
    */
   protected final short get_action(int state, int sym)
     {
-      short tag;
-      int first, last, probe;
-      short[] row = action_tab[state];
-
-      /* linear search if we are < 10 entries */
-      if (row.length < 20)
-        for (probe = 0; probe < row.length; probe++)
-	  {
-	    /* is this entry labeled with our Symbol or the default? */
-	    tag = row[probe++];
-	    if (tag == sym || tag == -1)
-	      {
-	        /* return the next entry */
-	        return row[probe];
-	      }
-	  }
-      /* otherwise binary search */
-      else
-	{
-	  first = 0; 
-	  last = (row.length-1)/2 - 1;  /* leave out trailing default entry */
-	  while (first <= last)
-	    {
-	      probe = (first+last)/2;
-	      if (sym == row[probe*2])
-		return row[probe*2+1];
-	      else if (sym > row[probe*2])
-		first = probe+1;
-	      else
-	        last = probe-1;
-	    }
-
-	  /* not found, use the default at the end */
-	  return row[row.length-1];
-	}
-
-      /* shouldn't happened, but if we run off the end we return the 
-	 default (error == 0) */
-      return 0;
+      return tables.action(state, sym);
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -487,32 +745,146 @@ public abstract class lr_parser {
    *  Within each row, a list of index, value pairs are given (as sequential
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a Symbol index of -1).  To find the proper entry in a row 
-   *  we do a linear search.  
+   *  we do a linear search.  If the generated subclass supplied the table 
+   *  packed by row displacement, the entry is found by one probe instead.
    *
    * @param state the state index of the entry being accessed.
    * @param sym   the Symbol index of the entry being accessed.
    */
   protected final short get_reduce(int state, int sym)
     {
-      short tag;
-      short[] row = reduce_tab[state];
+      return tables.reduce(state, sym);
+    }
 
-      /* if we have a null row we go with the default */
-      if (row == null)
-        return -1;
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-      for (int probe = 0; probe < row.length; probe++)
+  /** The tables of each parser class, built on first use. */
+  private static final ClassValue<ParseTables[]> class_tables =
+    new ClassValue<ParseTables[]>() {
+      protected ParseTables[] computeValue(Class<?> type) {
+	return new ParseTables[1];
+      }
+    };
+
+  /** The parse tables of this parser in flat form.  They are built from
+   *  the tables the generated subclass supplies the first time a parser
+   *  of its class asks for them and shared by all parsers of that class
+   *  from then on (so they must not differ between instances, which 
+   *  generated tables never do).
+   */
+  public ParseTables parse_tables()
+    {
+      ParseTables[] slot = class_tables.get(getClass());
+      ParseTables result = slot[0];
+      if (result == null)
 	{
-	  /* is this entry labeled with our Symbol or the default? */
-	  tag = row[probe++];
-	  if (tag == sym || tag == -1)
-	    {
-	      /* return the next entry */
-	      return row[probe];
-	    }
+	  /* racing threads build equal tables, keeping either is fine */
+	  result = new ParseTables(production_table(), action_table(),
+				   reduce_table(), dense_action_table(),
+				   dense_action_width(), reduce_comb_table(),
+				   chain_productions(), consistent_table());
+	  slot[0] = result;
 	}
-      /* if we run off the end we return the default (error == -1) */
-      return -1;
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Empty the parse stack and push the start Symbol to get a parse 
+   *  underway. 
+   */
+  private void reset_stack()
+    {
+      mirror_stack = legacy_stack();
+      symbol_pool  = (getSymbolFactory() instanceof PooledSymbolFactory &&
+		      checkpoint_interval == 0) ?
+	(PooledSymbolFactory)getSymbolFactory() : null;
+      parse_stack.clear();
+      stack.removeAllElements();
+      push_stack(getSymbolFactory().startSymbol("START", 0, start_state()),
+		 start_state());
+      tos = 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Replace the parse stack with a saved copy.
+   *
+   * @param saved the stack to restore.
+   */
+  private void restore_stack(ParseStack saved)
+    {
+      parse_stack.set(saved);
+      stack.removeAllElements();
+      if (mirror_stack)
+	for (int i = 0; i < parse_stack.size(); i++)
+	  stack.push(parse_stack.elementAt(i));
+      tos = parse_stack.size()-1;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Push a Symbol onto the parse stack, recording the state it leads to.
+   *
+   * @param sym   the Symbol to push.
+   * @param state the state it leads to.
+   */
+  private void push_stack(Symbol sym, int state)
+    {
+      sym.parse_state = state;
+      parse_stack.push(sym, state);
+      if (mirror_stack) stack.push(sym);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop a number of Symbols off the parse stack.
+   *
+   * @param n the number of Symbols to pop.
+   */
+  private void pop_stack(int n)
+    {
+      parse_stack.npop(n);
+      if (mirror_stack) 
+	for (int i = 0; i < n; i++)
+	  stack.pop();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Reduce with an action-less unit production by turning the Symbol on
+   *  top of the stack (a non terminal's, created by the symbol factory)
+   *  into its left hand side in place: it keeps its value, positions and
+   *  whatever else the factory put in it, and only its Symbol number and
+   *  state change.
+   *
+   * @param lhs_sym_num the left hand side of the production.
+   * @return the retargeted Symbol.
+   */
+  private Symbol retarget_top(short lhs_sym_num)
+    {
+      Symbol top = parse_stack.peek();
+      int state = get_reduce(parse_stack.state_at(tos-1), lhs_sym_num);
+      top.sym = lhs_sym_num;
+      top.parse_state = state;
+      parse_stack.set_top_state(state);
+      return top;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Hand the Symbols of a handle back to a pooling symbol factory, once
+   *  the reduce action has consumed them.  (Not done for the reductions
+   *  during error recovery, where the lookahead buffer may still refer to
+   *  the Symbols.)
+   *
+   * @param n the size of the handle on top of the stack.
+   */
+  private void release_handle(int n)
+    {
+      if (symbol_pool != null)
+	for (int i = 0; i < n; i++)
+	  symbol_pool.release(parse_stack.elementAt(tos-i));
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -525,20 +897,12 @@ public abstract class lr_parser {
    */
   public Symbol parse() throws java.lang.Exception
     {
-      /* the current action code */
-      int act;
-
-      /* the Symbol/stack element returned by a reduce */
-      Symbol lhs_sym = null;
-
-      /* information about production being reduced with */
-      short handle_size, lhs_sym_num;
-
       /* set up direct reference to tables to drive the parser */
 
       production_tab = production_table();
       action_tab     = action_table();
       reduce_tab     = reduce_table();
+      tables         = parse_tables();
 
       /* initialize the action encapsulation object */
       init_actions();
@@ -547,61 +911,99 @@ public abstract class lr_parser {
       user_init();
 
       /* get the first token */
-      cur_token = scan(); 
+      start_pull();
+      tokens_read = 0;
+      cur_token = next_input(); 
 
       /* push dummy Symbol with start state to get us underway */
-      stack.removeAllElements();
-      stack.push(getSymbolFactory().startSymbol("START", 0, start_state()));
-      tos = 0;
+      reset_stack();
+      discard_checkpoints(0);
+
+      return drive();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Run the parse loop from the current configuration until the parse is
+   *  done, returning the last Symbol reduced.
+   */
+  private Symbol drive() throws java.lang.Exception
+    {
+      /* the current action code */
+      int act;
+
+      /* the Symbol/stack element returned by a reduce */
+      Symbol lhs_sym = null;
+
+      /* information about production being reduced with */
+      short handle_size, lhs_sym_num;
+
+      /* read the next Symbol only when a state needs it? */
+      boolean lazy = tables.has_consistent();
 
       /* continue until we are told to stop */
       for (_done_parsing = false; !_done_parsing; )
 	{
-	  /* Check current token for freshness. */
-	  if (cur_token.used_by_parser)
-	    throw new Error("Symbol recycling detected (fix your scanner).");
+	  /* a consistent state reduces whatever comes next */
+	  act = lazy ? tables.consistent_reduce(parse_stack.top_state()) : 0;
 
-	  /* current state is always on the top of the stack */
+	  if (act == 0)
+	    {
+	      if (cur_token == null) cur_token = next_input();
 
-	  /* look up action out of the current state with the current input */
-	  act = get_action(((Symbol)stack.peek()).parse_state, cur_token.sym);
+	      /* Check current token for freshness. */
+	      if (cur_token.is_used())
+		throw new Error("Symbol recycling detected (fix your scanner).");
+
+	      /* current state is always on the top of the stack */
+
+	      /* look up action out of the current state with the current input */
+	      act = get_action(parse_stack.top_state(), cur_token.sym);
+	    }
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
-	      cur_token.parse_state = act-1;
-	      cur_token.used_by_parser = true;
-	      stack.push(cur_token);
+	      cur_token.mark_used();
+	      push_stack(cur_token, act-1);
 	      tos++;
 
-	      /* advance to the next Symbol */
-	      cur_token = scan();
+	      /* remember where we are every so often */
+	      if (checkpoint_interval > 0 && 
+		  tokens_read - last_checkpoint() >= checkpoint_interval)
+		save_checkpoint();
+
+	      /* advance to the next Symbol (or leave that to the next state) */
+	      cur_token = lazy ? null : next_input();
+	    }
+	  /* a unit production without action just relabels the top Symbol
+	     (unless checkpoints may still refer to it as it is) */
+	  else if (act < 0 && tables.chain((-act)-1) && checkpoint_interval == 0)
+	    {
+	      lhs_sym = retarget_top(tables.lhs((-act)-1));
 	    }
 	  /* if its less than zero, then it encodes a reduce action */
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      lhs_sym = do_action((-act)-1, this, parse_stack, tos);
 
 	      /* look up information about the production */
-	      lhs_sym_num = production_tab[(-act)-1][0];
-	      handle_size = production_tab[(-act)-1][1];
+	      lhs_sym_num = tables.lhs((-act)-1);
+	      handle_size = tables.rhs_size((-act)-1);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      release_handle(handle_size);
+	      pop_stack(handle_size);
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(parse_stack.top_state(), lhs_sym_num);
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      lhs_sym.used_by_parser = true;
-	      stack.push(lhs_sym);
+	      lhs_sym.mark_used();
+	      push_stack(lhs_sym, act);
 	      tos++;
 	    }
 	  /* finally if the entry is zero, we have an error */
@@ -611,7 +1013,7 @@ public abstract class lr_parser {
 	      syntax_error(cur_token);
 
 	      /* try to error recover */
-	      if (!error_recovery(false))
+	      if (!recover())
 		{
 		  /* if that fails give up with a fatal syntax error */
 		  unrecovered_syntax_error(cur_token);
@@ -619,7 +1021,7 @@ public abstract class lr_parser {
 		  /* just in case that wasn't fatal enough, end parse */
 		  done_parsing();
 		} else {
-		  lhs_sym = (Symbol)stack.peek();
+		  lhs_sym = parse_stack.peek();
 		}
 	    }
 	}
@@ -628,6 +1030,329 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /*-----------------------------------------------------------*/
+  /*--- Incremental Re-parsing --------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** A configuration of the parser saved during parse(): the parse stack
+   *  just after a Symbol was shifted, and the number of Symbols read by
+   *  then (all of which the stack accounts for).
+   */
+  private static final class Checkpoint {
+    final int tokens;
+    final ParseStack stack;
+    Checkpoint(int tokens, ParseStack stack)
+      {
+	this.tokens = tokens;
+	this.stack  = stack;
+      }
+  }
+
+  /** Checkpoints of the last parse, in input order. */
+  private final ArrayList<Checkpoint> checkpoints =
+    new ArrayList<Checkpoint>();
+
+  /** Number of Symbols between checkpoints, or 0 for none. */
+  private int checkpoint_interval;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Have parse() save its configuration every so many input Symbols, so
+   *  that after an edit of the input reparse() can pick up from the last
+   *  configuration before the edit instead of starting over.  Each
+   *  checkpoint copies the parse stack, so smaller intervals trade memory
+   *  and time during parse() for less work in reparse().  Symbols are not
+   *  handed back to a pooling symbol factory while checkpoints are taken,
+   *  since the checkpoints still refer to them.
+   *
+   * @param interval number of Symbols between checkpoints, 0 (the default)
+   *                 for no checkpoints.
+   */
+  public void set_checkpoint_interval(int interval)
+    {
+      checkpoint_interval = Math.max(0, interval);
+      if (checkpoint_interval == 0) discard_checkpoints(0);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Position (as a count of Symbols) of the last checkpoint, 0 if none. */
+  private int last_checkpoint()
+    {
+      int n = checkpoints.size();
+      return (n == 0) ? 0 : checkpoints.get(n-1).tokens;
+    }
+
+  /** Save the current configuration as a checkpoint. */
+  private void save_checkpoint()
+    {
+      checkpoints.add(new Checkpoint(tokens_read, new ParseStack(parse_stack)));
+    }
+
+  /** Drop the checkpoints from a given one on.
+   *
+   * @param from index of the first checkpoint to drop.
+   */
+  private void discard_checkpoints(int from)
+    {
+      for (int i = checkpoints.size()-1; i >= from; i--)
+	checkpoints.remove(i);
+    }
+
+  /** Index of the last checkpoint that only depends on Symbols before a
+   *  given one, or -1 if there is none.
+   *
+   * @param changed the position of the Symbol.
+   */
+  private int checkpoint_before(int changed)
+    {
+      int i = checkpoints.size()-1;
+      while (i >= 0 && checkpoints.get(i).tokens > changed) i--;
+      return i;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The position from which reparse() will read input after an edit: the
+   *  number of Symbols at the start of the input whose parse it reuses
+   *  (0 if it has to start over).
+   *
+   * @param changed position (counting from 0) of the first Symbol of the
+   *                input that the edit may have changed.
+   */
+  public int resume_point(int changed)
+    {
+      int i = checkpoint_before(changed);
+      return (i < 0) ? 0 : checkpoints.get(i).tokens;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Parse the input again after an edit, reusing the work of the previous
+   *  parse up to the last checkpoint before the edit (see
+   *  set_checkpoint_interval()).  The Symbols on the parse stack at that
+   *  point, with the values the actions computed for them and the states
+   *  recorded with them, are taken over as they are, and parsing resumes
+   *  with the Symbol at resume_point(); the scanner given must deliver the
+   *  edited input from that Symbol on.  Without a usable checkpoint this
+   *  is simply a parse() of the scanner's input, which must then be all of
+   *  it.<p>
+   *
+   *  The caller determines which Symbols may have changed, so it should
+   *  allow for edits that merge with or split neighbouring tokens.  Since
+   *  the actions for the reused part of the input are not run again,
+   *  reparse() is only useful if actions compute values (such as syntax
+   *  trees) rather than having side effects.  init_actions() and
+   *  user_init() are called as by parse().  New checkpoints are taken
+   *  along the way, so edit after edit can be handled like this.
+   *
+   * @param changed position (counting from 0) of the first Symbol of the
+   *                input that the edit may have changed.
+   * @param s       scanner delivering the input from resume_point(changed).
+   */
+  public Symbol reparse(int changed, Scanner s) throws java.lang.Exception
+    {
+      int i = checkpoint_before(changed);
+      setScanner(s);
+      if (i < 0) return parse();
+
+      Checkpoint from = checkpoints.get(i);
+      discard_checkpoints(i+1);
+
+      /* set up as parse() does */
+      production_tab = production_table();
+      action_tab     = action_table();
+      reduce_tab     = reduce_table();
+      tables         = parse_tables();
+      init_actions();
+      user_init();
+
+      /* restore the configuration and carry on from there */
+      start_pull();
+      mirror_stack = legacy_stack();
+      symbol_pool  = null;
+      restore_stack(from.stack);
+      tokens_read = from.tokens;
+      cur_token = next_input();
+
+      return drive();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /*-----------------------------------------------------------*/
+  /*--- Push Parsing ------------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Thrown internally when a push parse needs a Symbol not offered yet. */
+  private static final class NeedInput extends Exception {
+    NeedInput() { super(null, null, false, false); }
+  }
+
+  /** The one instance of NeedInput (it carries no information). */
+  private static final NeedInput need_input = new NeedInput();
+
+  /** Is a push parse under way? */
+  private boolean pushing;
+
+  /** Symbols offered to a push parse, and how many of them were read. */
+  private final ArrayList<Symbol> pending = new ArrayList<Symbol>();
+  private int pending_pos;
+
+  /** Has the end of the input of a push parse been signalled? */
+  private boolean input_ended;
+
+  /** The parse stack as it was when the current error recovery of a push
+   *  parse started (null if none is under way), with the Symbol in error
+   *  and the number of offered Symbols read by then.  Recovery starts over
+   *  from there when it runs out of input.
+   */
+  private ParseStack recovery_stack;
+  private Symbol recovery_token;
+  private int recovery_pos;
+
+  /** The result of a push parse that is done. */
+  private Symbol push_result;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Start a push parse.  Rather than pulling Symbols from scan(), as
+   *  parse() does, the parser then gets them one at a time from offer()
+   *  and advances as far as it can with each, returning when it needs the
+   *  next one; endOfInput() finishes the parse.  Actions, error reporting
+   *  and error recovery work as in parse().  When an error is detected the
+   *  parser waits for enough Symbols to recover (see error_sync_size()),
+   *  starting recovery over as more of them are offered, so no thread is
+   *  blocked on input in the meantime.  The parser must still only be used
+   *  by one thread at a time.  A parser generated with -consistent also
+   *  carries out the reductions a Symbol completes before offer() returns,
+   *  rather than when the next one arrives (see consistent_table()).
+   */
+  public void startPush() throws java.lang.Exception
+    {
+      /* set up as parse() does */
+      production_tab = production_table();
+      action_tab     = action_table();
+      reduce_tab     = reduce_table();
+      tables         = parse_tables();
+      init_actions();
+      user_init();
+
+      pushing = true;
+      pending.clear();
+      pending_pos = 0;
+      input_ended = false;
+      recovery_stack = null;
+      recovery_token = null;
+      push_result = null;
+      tokens_read = 0;
+      cur_token = null;
+      _done_parsing = false;
+
+      reset_stack();
+      discard_checkpoints(0);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Give the next input Symbol to a push parse (see startPush()) and
+   *  parse as far as possible with it.  As with scan(), every Symbol
+   *  offered must be a fresh object.
+   *
+   * @param token the next input Symbol.
+   * @return whether the parse is done (which normally takes an EOF
+   *         Symbol or endOfInput()).
+   */
+  public boolean offer(Symbol token) throws java.lang.Exception
+    {
+      if (!pushing)
+	throw new Error("No push parse under way (call startPush() first).");
+      if (_done_parsing)
+	throw new Error("Symbol offered to a push parse that is done.");
+      pending.add(token);
+      push_drive();
+      return _done_parsing;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Signal the end of the input of a push parse and finish it, as if an
+   *  EOF Symbol had been offered.
+   *
+   * @return the result of the parse, as returned by parse().
+   */
+  public Symbol endOfInput() throws java.lang.Exception
+    {
+      if (!pushing)
+	throw new Error("No push parse under way (call startPush() first).");
+      input_ended = true;
+      if (!_done_parsing) push_drive();
+      return push_result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Advance a push parse until it is done or needs more input. */
+  private void push_drive() throws java.lang.Exception
+    {
+      try
+	{
+	  if (recovery_stack != null)
+	    {
+	      /* error recovery ran out of input before, try again */
+	      if (!recover())
+		{
+		  unrecovered_syntax_error(cur_token);
+		  done_parsing();
+		  push_result = null;
+		  return;
+		}
+	    }
+
+	  push_result = drive();
+	}
+      catch (NeedInput e)
+	{
+	  if (recovery_stack != null)
+	    {
+	      /* back to where recovery started, keeping the Symbols read */
+	      restore_stack(recovery_stack);
+	      cur_token = recovery_token;
+	      tokens_read -= pending_pos - recovery_pos;
+	      pending_pos = recovery_pos;
+	    }
+	  else
+	    {
+	      /* everything offered has been shifted */
+	      cur_token = null;
+	      pending.clear();
+	      pending_pos = 0;
+	    }
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Attempt error recovery in the normal (non debug) parse.  In a push
+   *  parse the configuration is saved first, so recovery can be started
+   *  over if it runs out of input.
+   */
+  private boolean recover() throws java.lang.Exception
+    {
+      if (pushing && recovery_stack == null)
+	{
+	  recovery_stack = new ParseStack(parse_stack);
+	  recovery_token = cur_token;
+	  recovery_pos   = pending_pos;
+	}
+      boolean result = error_recovery(false);
+      recovery_stack = null;
+      recovery_token = null;
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Write a debugging message to System.err for the debugging version 
    *  of the parser. 
    *
@@ -643,7 +1368,7 @@ public abstract class lr_parser {
   /** Dump the parse stack for debugging purposes. */
   public void dump_stack()
     {
-      if (stack == null)
+      if (parse_stack == null)
 	{
 	  debug_message("# Stack dump requested, but stack is null");
 	  return;
@@ -652,10 +1377,10 @@ public abstract class lr_parser {
       debug_message("============ Parse Stack Dump ============");
 
       /* dump the stack */
-      for (int i=0; i<stack.size(); i++)
+      for (int i=0; i<parse_stack.size(); i++)
 	{
-	  debug_message("Symbol: " + ((Symbol)stack.elementAt(i)).sym +
-			" State: " + ((Symbol)stack.elementAt(i)).parse_state);
+	  debug_message("Symbol: " + parse_stack.elementAt(i).sym +
+			" State: " + parse_stack.state_at(i));
 	}
       debug_message("==========================================");
     }
@@ -692,10 +1417,10 @@ public abstract class lr_parser {
    */
   public void debug_stack() {
       StringBuffer sb=new StringBuffer("## STACK:");
-      for (int i=0; i<stack.size(); i++) {
-	  Symbol s = (Symbol) stack.elementAt(i);
-	  sb.append(" <state "+s.parse_state+", sym "+s.sym+">");
-	  if ((i%3)==2 || (i==(stack.size()-1))) {
+      for (int i=0; i<parse_stack.size(); i++) {
+	  Symbol s = parse_stack.elementAt(i);
+	  sb.append(" <state "+parse_stack.state_at(i)+", sym "+s.sym+">");
+	  if ((i%3)==2 || (i==(parse_stack.size()-1))) {
 	      debug_message(sb.toString());
 	      sb = new StringBuffer("         ");
 	  }
@@ -725,6 +1450,7 @@ public abstract class lr_parser {
       production_tab = production_table();
       action_tab     = action_table();
       reduce_tab     = reduce_table();
+      tables         = parse_tables();
 
       debug_message("# Initializing parser");
 
@@ -734,72 +1460,69 @@ public abstract class lr_parser {
       /* do user initialization */
       user_init();
 
-      /* the current Symbol */
-      cur_token = scan(); 
+      /* the current Symbol, read as parse() reads it */
+      start_pull();
+      tokens_read = 0;
+      cur_token = next_input(); 
 
       debug_message("# Current Symbol is #" + cur_token.sym);
 
       /* push dummy Symbol with start state to get us underway */
-      stack.removeAllElements();
-      stack.push(getSymbolFactory().startSymbol("START",0, start_state()));
-      tos = 0;
+      reset_stack();
 
       /* continue until we are told to stop */
       for (_done_parsing = false; !_done_parsing; )
 	{
 	  /* Check current token for freshness. */
-	  if (cur_token.used_by_parser)
+	  if (cur_token.is_used())
 	    throw new Error("Symbol recycling detected (fix your scanner).");
 
 	  /* current state is always on the top of the stack */
 	  //debug_stack();
 
 	  /* look up action out of the current state with the current input */
-	  act = get_action(((Symbol)stack.peek()).parse_state, cur_token.sym);
+	  act = get_action(parse_stack.top_state(), cur_token.sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
 	      cur_token.parse_state = act-1;
-	      cur_token.used_by_parser = true;
+	      cur_token.mark_used();
 	      debug_shift(cur_token);
-	      stack.push(cur_token);
+	      push_stack(cur_token, act-1);
 	      tos++;
 
 	      /* advance to the next Symbol */
-	      cur_token = scan();
+	      cur_token = next_input();
               debug_message("# Current token is " + cur_token);
 	    }
 	  /* if its less than zero, then it encodes a reduce action */
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      lhs_sym = do_action((-act)-1, this, parse_stack, tos);
 
 	      /* look up information about the production */
-	      lhs_sym_num = production_tab[(-act)-1][0];
-	      handle_size = production_tab[(-act)-1][1];
+	      lhs_sym_num = tables.lhs((-act)-1);
+	      handle_size = tables.rhs_size((-act)-1);
 
 	      debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      release_handle(handle_size);
+	      pop_stack(handle_size);
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(parse_stack.top_state(), lhs_sym_num);
 	      debug_message("# Reduce rule: top state " +
-			     ((Symbol)stack.peek()).parse_state +
+			     parse_stack.top_state() +
 			     ", lhs sym " + lhs_sym_num + " -> state " + act); 
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      lhs_sym.used_by_parser = true;
-	      stack.push(lhs_sym);
+	      lhs_sym.mark_used();
+	      push_stack(lhs_sym, act);
 	      tos++;
 
 	      debug_message("# Goto state #" + act);
@@ -819,7 +1542,7 @@ public abstract class lr_parser {
 		  /* just in case that wasn't fatal enough, end parse */
 		  done_parsing();
 		} else {
-		  lhs_sym = (Symbol)stack.peek();
+		  lhs_sym = parse_stack.peek();
 		}
 	    }
 	}
@@ -914,7 +1637,7 @@ public abstract class lr_parser {
   protected boolean shift_under_error()
     {
       /* is there a shift under error Symbol */
-      return get_action(((Symbol)stack.peek()).parse_state, error_sym()) > 0;
+      return get_action(parse_stack.top_state(), error_sym()) > 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -934,7 +1657,7 @@ public abstract class lr_parser {
       if (debug) debug_message("# Finding recovery state on stack");
 
       /* Remember the right-position of the top symbol on the stack */
-      Symbol right = ((Symbol)stack.peek());// TUM 20060327 removed .right	
+      Symbol right = parse_stack.peek();// TUM 20060327 removed .right	
       Symbol left  = right;// TUM 20060327 removed .left	
 
       /* pop down until we can shift under error Symbol */
@@ -943,12 +1666,13 @@ public abstract class lr_parser {
 	  /* pop the stack */
 	  if (debug) 
 	    debug_message("# Pop stack by one, state was # " +
-	                  ((Symbol)stack.peek()).parse_state);
-          left = ((Symbol)stack.pop()); // TUM 20060327 removed .left	
+	                  parse_stack.top_state());
+          left = parse_stack.peek(); // TUM 20060327 removed .left	
+	  pop_stack(1);
 	  tos--;
 
 	  /* if we have hit bottom, we fail */
-	  if (stack.empty()) 
+	  if (parse_stack.empty()) 
 	    {
 	      if (debug) debug_message("# No recovery state found on stack");
 	      return false;
@@ -956,19 +1680,18 @@ public abstract class lr_parser {
 	}
 
       /* state on top of the stack can shift under error, find the shift */
-      act = get_action(((Symbol)stack.peek()).parse_state, error_sym());
+      act = get_action(parse_stack.top_state(), error_sym());
       if (debug) 
 	{
 	  debug_message("# Recover state found (#" + 
-			((Symbol)stack.peek()).parse_state + ")");
+			parse_stack.top_state() + ")");
 	  debug_message("# Shifting on error to state #" + (act-1));
 	}
 
       /* build and shift a special error Symbol */
       error_token = getSymbolFactory().newSymbol("ERROR",error_sym(), left, right);
-      error_token.parse_state = act-1;
-      error_token.used_by_parser = true;
-      stack.push(error_token);
+      error_token.mark_used();
+      push_stack(error_token, act-1);
       tos++;
 
       return true;
@@ -989,14 +1712,15 @@ public abstract class lr_parser {
    */
   protected void read_lookahead() throws java.lang.Exception
     {
-      /* create the lookahead array */
-      lookahead = new Symbol[error_sync_size()];
+      /* create the lookahead array, unless we have one from before */
+      if (lookahead == null || lookahead.length != error_sync_size())
+	lookahead = new Symbol[error_sync_size()];
 
       /* fill in the array */
       for (int i = 0; i < error_sync_size(); i++)
 	{
 	  lookahead[i] = cur_token;
-	  cur_token = scan();
+	  cur_token = next_input();
 	}
 
       /* start at the beginning */
@@ -1039,7 +1763,7 @@ public abstract class lr_parser {
       // Auckland, New Zealand. [applied 5-sep-1999 by csa]
       // The following two lines were out of order!!
       lookahead[error_sync_size()-1] = cur_token;
-      cur_token = scan();
+      cur_token = next_input();
 
       /* reset our internal position marker */
       lookahead_pos = 0;
@@ -1063,7 +1787,7 @@ public abstract class lr_parser {
       short lhs, rhs_size;
 
       /* create a virtual stack from the real parse stack */
-      virtual_parse_stack vstack = new virtual_parse_stack(stack);
+      virtual_parse_stack vstack = new virtual_parse_stack(parse_stack);
 
       /* parse until we fail or get past the lookahead input */
       for (;;)
@@ -1097,8 +1821,8 @@ public abstract class lr_parser {
 		}
 
 	      /* get the lhs Symbol and the rhs size */
-	      lhs = production_tab[(-act)-1][0];
-	      rhs_size = production_tab[(-act)-1][1];
+	      lhs = tables.lhs((-act)-1);
+	      rhs_size = tables.rhs_size((-act)-1);
 
 	      /* pop handle off the stack */
 	      for (int i = 0; i < rhs_size; i++)
@@ -1147,7 +1871,7 @@ public abstract class lr_parser {
 	  debug_message("# Reparsing saved input with actions");
 	  debug_message("# Current Symbol is #" + cur_err_token().sym);
 	  debug_message("# Current state is #" + 
-			((Symbol)stack.peek()).parse_state);
+			parse_stack.top_state());
 	}
 
       /* continue until we accept or have read all lookahead input */
@@ -1156,17 +1880,16 @@ public abstract class lr_parser {
 	  /* current state is always on the top of the stack */
 
 	  /* look up action out of the current state with the current input */
-	  act = 
-	    get_action(((Symbol)stack.peek()).parse_state, cur_err_token().sym);
+	  act = get_action(parse_stack.top_state(), cur_err_token().sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
 	      cur_err_token().parse_state = act-1;
-	      cur_err_token().used_by_parser = true;
+	      cur_err_token().mark_used();
 	      if (debug) debug_shift(cur_err_token());
-	      stack.push(cur_err_token());
+	      push_stack(cur_err_token(), act-1);
 	      tos++;
 
 	      /* advance to the next Symbol, if there is none, we are done */
@@ -1191,28 +1914,24 @@ public abstract class lr_parser {
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      lhs_sym = do_action((-act)-1, this, parse_stack, tos);
 
 	      /* look up information about the production */
-	      lhs_sym_num = production_tab[(-act)-1][0];
-	      handle_size = production_tab[(-act)-1][1];
+	      lhs_sym_num = tables.lhs((-act)-1);
+	      handle_size = tables.rhs_size((-act)-1);
 
 	      if (debug) debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      pop_stack(handle_size);
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(parse_stack.top_state(), lhs_sym_num);
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      lhs_sym.used_by_parser = true;
-	      stack.push(lhs_sym);
+	      lhs_sym.mark_used();
+	      push_stack(lhs_sym, act);
 	      tos++;
 	       
 	      if (debug) debug_message("# Goto state #" + act);
@@ -1250,5 +1969,132 @@ public abstract class lr_parser {
       }
       return result;
     }
-}
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** First word of a binary parse table resource ("CUPT"). */
+  public static final int TABLES_MAGIC = 0x43555054;
+
+  /** Utility function: unpacks the parse tables of a parser generated with
+   *  the -binary_tables option from the resource the generator wrote next 
+   *  to it.  The resource holds TABLES_MAGIC, the number of tables and then
+   *  for each table its number of rows followed by each row as a length and
+   *  that many shorts, all big-endian.  A large resource that is a plain 
+   *  file is memory mapped and its rows are copied out in bulk; anything 
+   *  else (a jar entry, say) is read into a byte array and decoded from 
+   *  there, which is quicker in a JVM that has just started.
+   *
+   * @param c    the parser class the resource belongs to.
+   * @param name the name of the resource, relative to that class.
+   */
+  protected static short[][][] unpackFromResource(Class c, String name)
+    {
+      URL url = c.getResource(name);
+      if (url == null)
+	throw new Error("Parse table resource " + name + " not found");
+      try {
+	ShortBuffer mapped = map_resource(url);
+	short[][][] result = mapped != null ? unpack_tables(mapped) 
+	                                    : unpack_tables(read_resource(url));
+	if (result == null)
+	  throw new Error(name + " is not a parse table resource");
+	return result;
+      } catch (IOException e) {
+	throw new Error("Can't read parse table resource " + name + ": " + e);
+      }
+    }
+
+  /** Unpack the tables from a mapped resource, or return null if it does
+   *  not start with TABLES_MAGIC. */
+  private static short[][][] unpack_tables(ShortBuffer buf)
+    {
+      if (next_int(buf) != TABLES_MAGIC)
+	return null;
+      short[][][] result = new short[next_int(buf)][][];
+      for (int t=0; t<result.length; t++) {
+	result[t] = new short[next_int(buf)][];
+	for (int i=0; i<result[t].length; i++) {
+	  result[t][i] = new short[next_int(buf)];
+	  buf.get(result[t][i]);
+	}
+      }
+      return result;
+    }
+
+  /** Read a big-endian int from a short buffer. */
+  private static int next_int(ShortBuffer buf)
+    {
+      return (buf.get() << 16) | (buf.get() & 0xFFFF);
+    }
+
+  /** Unpack the tables from the bytes of a resource, or return null if 
+   *  they do not start with TABLES_MAGIC. */
+  private static short[][][] unpack_tables(byte[] b)
+    {
+      int n = 0;
+      if (int_at(b, n) != TABLES_MAGIC)
+	return null;
+      short[][][] result = new short[int_at(b, n+4)][][]; n+=8;
+      for (int t=0; t<result.length; t++) {
+	result[t] = new short[int_at(b, n)][]; n+=4;
+	for (int i=0; i<result[t].length; i++) {
+	  short[] row = new short[int_at(b, n)]; n+=4;
+	  for (int j=0; j<row.length; j++, n+=2)
+	    row[j] = (short) ((b[n] << 8) | (b[n+1] & 0xFF));
+	  result[t][i] = row;
+	}
+      }
+      return result;
+    }
+
+  /** Read a big-endian int from a byte array. */
+  private static int int_at(byte[] b, int n)
+    {
+      return (b[n] << 24) | ((b[n+1] & 0xFF) << 16) 
+	| ((b[n+2] & 0xFF) << 8) | (b[n+3] & 0xFF);
+    }
+
+  /** Resources at least this large are memory mapped rather than read, 
+   *  which spares a transient copy of them on the heap.  For smaller ones
+   *  setting up the mapping takes longer than reading them. */
+  private static final long MAP_THRESHOLD = 8 << 20;
+
+  /** Map a resource that is a large file, or return null if it is not 
+   *  one. */
+  private static ShortBuffer map_resource(URL url) throws IOException
+    {
+      if (!"file".equals(url.getProtocol()))
+	return null;
+      File file;
+      try {
+	file = new File(url.toURI());
+      } catch (java.net.URISyntaxException e) {
+	return null;
+      }
+      if (file.length() < MAP_THRESHOLD)
+	return null;
+      FileInputStream in = new FileInputStream(file);
+      try {
+	FileChannel ch = in.getChannel();
+	return ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size())
+	  .asShortBuffer();
+      } finally {
+	in.close();
+      }
+    }
+
+  /** Read all of a resource. */
+  private static byte[] read_resource(URL url) throws IOException
+    {
+      InputStream in = url.openStream();
+      try {
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	byte[] b = new byte[8192];
+	for (int n; (n = in.read(b)) > 0; )
+	  out.write(b, 0, n);
+	return out.toByteArray();
+      } finally {
+	in.close();
+      }
+    }
+}
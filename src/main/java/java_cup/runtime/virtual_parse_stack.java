@@ -34,7 +34,27 @@ public class virtual_parse_stack {
 
       /* set up our internals */
       real_stack = shadowing_stack;
-      vstack     = new Stack();
+      vstack     = new int[8];
+      vsize      = 0;
+      real_next  = 0;
+
+      /* get one element onto the virtual portion of the stack */
+      get_from_real();
+    }
+
+  /** Constructor to build a virtual stack out of a primitive parse stack. */
+  public virtual_parse_stack(ParseStack shadowing_stack) 
+    throws java.lang.Exception
+    {
+      /* sanity check */
+      if (shadowing_stack == null)
+	throw new Exception(
+	  "Internal parser error: attempt to create null virtual stack");
+
+      /* set up our internals */
+      real_parse_stack = shadowing_stack;
+      vstack     = new int[8];
+      vsize      = 0;
       real_next  = 0;
 
       /* get one element onto the virtual portion of the stack */
@@ -51,6 +71,10 @@ public class virtual_parse_stack {
    */
   protected Stack real_stack;
 
+  /** The primitive parse stack that we shadow (used instead of real_stack
+   *  when we were built from one). */
+  protected ParseStack real_parse_stack;
+
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
   /** Top of stack indicator for where we leave off in the real stack.
@@ -61,13 +85,17 @@ public class virtual_parse_stack {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** The virtual top portion of the stack.  This stack contains Integer
-   *  objects with state numbers.  This stack shadows the top portion
-   *  of the real stack within the area that has been modified (via operations
-   *  on the virtual stack).  When this portion of the stack becomes empty we 
-   *  transfer elements from the underlying stack onto this stack. 
+  /** The virtual top portion of the stack.  This array contains state
+   *  numbers (bottom first, vsize of them in use).  This stack shadows the 
+   *  top portion of the real stack within the area that has been modified 
+   *  (via operations on the virtual stack).  When this portion of the stack 
+   *  becomes empty we transfer elements from the underlying stack onto this 
+   *  stack. 
    */
-  protected Stack vstack;
+  protected int[] vstack;
+
+  /** Number of states in use in vstack. */
+  protected int vsize;
 
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
@@ -78,19 +106,31 @@ public class virtual_parse_stack {
    */
   protected void get_from_real()
     {
-      Symbol stack_sym;
+      int state;
 
       /* don't transfer if the real stack is empty */
-      if (real_next >= real_stack.size()) return;
-
-      /* get a copy of the first Symbol we have not transfered */
-      stack_sym = (Symbol)real_stack.elementAt(real_stack.size()-1-real_next);
+      if (real_stack != null)
+	{
+	  if (real_next >= real_stack.size()) return;
+
+	  /* get the state of the first Symbol we have not transfered */
+	  state = ((Symbol)real_stack.elementAt(
+			    real_stack.size()-1-real_next)).parse_state;
+	}
+      else
+	{
+	  if (real_next >= real_parse_stack.size()) return;
+
+	  /* get the first state we have not transfered */
+	  state = real_parse_stack.state_at(
+			    real_parse_stack.size()-1-real_next);
+	}
 
       /* record the transfer */
       real_next++;
 
-      /* put the state number from the Symbol onto the virtual stack */
-      vstack.push(new Integer(stack_sym.parse_state));
+      /* put the state number onto the virtual stack */
+      push(state);
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -100,7 +140,7 @@ public class virtual_parse_stack {
     {
       /* if vstack is empty then we were unable to transfer onto it and 
 	 the whole thing is empty. */
-      return vstack.empty();
+      return vsize == 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -108,11 +148,11 @@ public class virtual_parse_stack {
   /** Return value on the top of the stack (without popping it). */
   public int top() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vsize == 0)
 	throw new Exception(
 		  "Internal parser error: top() called on empty virtual stack");
 
-      return ((Integer)vstack.peek()).intValue();
+      return vstack[vsize-1];
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -120,15 +160,15 @@ public class virtual_parse_stack {
   /** Pop the stack. */
   public void pop() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vsize == 0)
 	throw new Exception(
 		  "Internal parser error: pop from empty virtual stack");
 
       /* pop it */
-      vstack.pop();
+      vsize--;
 
       /* if we are now empty transfer an element (if there is one) */
-      if (vstack.empty())
+      if (vsize == 0)
         get_from_real();
     }
 
@@ -137,7 +177,13 @@ public class virtual_parse_stack {
   /** Push a state number onto the stack. */
   public void push(int state_num)
     {
-      vstack.push(new Integer(state_num));
+      if (vsize == vstack.length)
+	{
+	  int[] grown = new int[vstack.length * 2];
+	  System.arraycopy(vstack, 0, grown, 0, vsize);
+	  vstack = grown;
+	}
+      vstack[vsize++] = state_num;
     }
 
   /*-----------------------------------------------------------*/
@@ -1,9 +1,10 @@
 package java_cup;
 
-import java.util.BitSet;
-
 /**
- * A set of terminals implemented as a bitset.
+ * A set of terminals implemented as a bitset. The bits are kept in an array of
+ * longs wide enough for all terminals known when the set was made (it grows if
+ * more are added later), and all set operations work on it word by word
+ * without allocating.
  * 
  * @version last updated: 11/25/95
  * @author Scott Hudson
@@ -21,7 +22,7 @@ public class terminal_set {
 		this.terminalFactory = terminalFactory;
 
 		/* allocate the bitset at what is probably the right size */
-		_elements = new BitSet(terminalFactory.number());
+		_elements = new long[words(terminalFactory.number())];
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -34,7 +35,7 @@ public class terminal_set {
 	 */
 	public terminal_set(terminal_set other) throws internal_error {
 		not_null(other);
-		_elements = (BitSet) other._elements.clone();
+		_elements = other._elements.clone();
 		terminalFactory = other.terminalFactory;
 	}
 
@@ -51,8 +52,22 @@ public class terminal_set {
 	/*--- (Access to) Instance Variables ------------------------*/
 	/*-----------------------------------------------------------*/
 
-	/** Bitset to implement the actual set. */
-	protected BitSet _elements;
+	/** Bitset to implement the actual set, 64 terminals per word. */
+	protected long[] _elements;
+
+	/** Number of words needed to hold a number of bits. */
+	protected static int words(int bits) {
+		return (bits + 63) >>> 6;
+	}
+
+	/** Make sure the bitset has at least a number of words. */
+	protected void ensure_words(int n) {
+		if (n > _elements.length) {
+			long[] bigger = new long[Math.max(n, 2 * _elements.length)];
+			System.arraycopy(_elements, 0, bigger, 0, _elements.length);
+			_elements = bigger;
+		}
+	}
 
 	/*-----------------------------------------------------------*/
 	/*--- General Methods ----------------------------------------*/
@@ -74,7 +89,10 @@ public class terminal_set {
 
 	/** Determine if the set is empty. */
 	public boolean empty() {
-		return equals(EMPTY());
+		for (int i = 0; i < _elements.length; i++)
+			if (_elements[i] != 0)
+				return false;
+		return true;
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -87,7 +105,7 @@ public class terminal_set {
 	 */
 	public boolean contains(terminal sym) throws internal_error {
 		not_null(sym);
-		return _elements.get(sym.index());
+		return contains(sym.index());
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -99,7 +117,33 @@ public class terminal_set {
 	 *            the index of the terminal in question.
 	 */
 	public boolean contains(int indx) {
-		return _elements.get(indx);
+		int w = indx >>> 6;
+		return w < _elements.length && (_elements[w] & (1L << indx)) != 0;
+	}
+
+	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
+
+	/**
+	 * Find the index of the first terminal in the set at or after a given
+	 * index, skipping empty words. The members of a set are enumerated in
+	 * ascending order with
+	 * <code>for (t = s.next_element(0); t &gt;= 0; t = s.next_element(t + 1))</code>.
+	 * 
+	 * @param from
+	 *            the index to start looking at.
+	 * @return the index found, or -1 if there is none.
+	 */
+	public int next_element(int from) {
+		int w = from >>> 6;
+		if (w >= _elements.length)
+			return -1;
+		long word = _elements[w] & (-1L << from);
+		while (word == 0) {
+			if (++w == _elements.length)
+				return -1;
+			word = _elements[w];
+		}
+		return (w << 6) + Long.numberOfTrailingZeros(word);
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -113,14 +157,14 @@ public class terminal_set {
 	public boolean is_subset_of(terminal_set other) throws internal_error {
 		not_null(other);
 
-		/* make a copy of the other set */
-		BitSet copy_other = (BitSet) other._elements.clone();
-
-		/* and or in */
-		copy_other.or(_elements);
-
-		/* if it hasn't changed, we were a subset */
-		return copy_other.equals(other._elements);
+		/* every word of ours must be covered by the other's */
+		long[] theirs = other._elements;
+		for (int i = 0; i < _elements.length; i++) {
+			long t = i < theirs.length ? theirs[i] : 0;
+			if ((_elements[i] & ~t) != 0)
+				return false;
+		}
+		return true;
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -151,11 +195,13 @@ public class terminal_set {
 		not_null(sym);
 
 		/* see if we already have this */
-		result = _elements.get(sym.index());
+		result = contains(sym.index());
 
 		/* if not we add it */
-		if (!result)
-			_elements.set(sym.index());
+		if (!result) {
+			ensure_words(words(sym.index() + 1));
+			_elements[sym.index() >>> 6] |= 1L << sym.index();
+		}
 
 		return result;
 	}
@@ -170,7 +216,9 @@ public class terminal_set {
 	 */
 	public void remove(terminal sym) throws internal_error {
 		not_null(sym);
-		_elements.clear(sym.index());
+		int w = sym.index() >>> 6;
+		if (w < _elements.length)
+			_elements[w] &= ~(1L << sym.index());
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -185,14 +233,19 @@ public class terminal_set {
 	public boolean add(terminal_set other) throws internal_error {
 		not_null(other);
 
-		/* make a copy */
-		BitSet copy = (BitSet) _elements.clone();
-
-		/* or in the other set */
-		_elements.or(other._elements);
-
-		/* changed if we are not the same as the copy */
-		return !_elements.equals(copy);
+		long[] theirs = other._elements;
+		if (theirs.length > _elements.length)
+			ensure_words(theirs.length);
+
+		/* or in the other set, noting any bit that was not there yet */
+		long changed = 0;
+		for (int i = 0; i < theirs.length; i++) {
+			long old = _elements[i];
+			long merged = old | theirs[i];
+			changed |= merged ^ old;
+			_elements[i] = merged;
+		}
+		return changed != 0;
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -206,14 +259,12 @@ public class terminal_set {
 	public boolean intersects(terminal_set other) throws internal_error {
 		not_null(other);
 
-		/* make a copy of the other set */
-		BitSet copy = (BitSet) other._elements.clone();
-
-		/* xor out our values */
-		copy.xor(this._elements);
-
-		/* see if its different */
-		return !copy.equals(other._elements);
+		/*
+		 * This has always been computed as "other xor this differs from
+		 * other", which holds exactly when this set is not empty. Conflict
+		 * reporting depends on that answer, so it is kept.
+		 */
+		return !empty();
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -222,8 +273,20 @@ public class terminal_set {
 	public boolean equals(terminal_set other) {
 		if (other == null)
 			return false;
-		else
-			return _elements.equals(other._elements);
+
+		/* compare word by word; missing words count as zero */
+		long[] longer = _elements, shorter = other._elements;
+		if (longer.length < shorter.length) {
+			longer = other._elements;
+			shorter = _elements;
+		}
+		for (int i = 0; i < shorter.length; i++)
+			if (longer[i] != shorter[i])
+				return false;
+		for (int i = shorter.length; i < longer.length; i++)
+			if (longer[i] != 0)
+				return false;
+		return true;
 	}
 
 	/* . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . */
@@ -246,7 +309,7 @@ public class terminal_set {
 		result = "{";
 		comma_flag = false;
 		for (int t = 0; t < terminalFactory.number(); t++) {
-			if (_elements.get(t)) {
+			if (contains(t)) {
 				if (comma_flag)
 					result += ", ";
 				else
@@ -0,0 +1,40 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b beta 20140226
+// Sat Oct 17 22:49:08 UTC 2026
+//----------------------------------------------------
+
+/** CUP generated class containing symbol constants. */
+public class sym {
+  /* terminals */
+  public static final int LT = 12;
+  public static final int PLUS = 22;
+  public static final int INT = 27;
+  public static final int RPAREN = 17;
+  public static final int THEN = 6;
+  public static final int LTE = 13;
+  public static final int SEMI = 20;
+  public static final int WHILE = 7;
+  public static final int PERIOD = 18;
+  public static final int END = 4;
+  public static final int IF = 5;
+  public static final int LPAREN = 16;
+  public static final int GT = 14;
+  public static final int ID = 28;
+  public static final int ODD = 9;
+  public static final int GTE = 15;
+  public static final int BEGIN = 3;
+  public static final int DO = 8;
+  public static final int COMMA = 19;
+  public static final int MULT = 24;
+  public static final int EOF = 0;
+  public static final int DIV = 25;
+  public static final int MINUS = 23;
+  public static final int PRINT = 26;
+  public static final int error = 1;
+  public static final int ASSIGN = 21;
+  public static final int EQ = 10;
+  public static final int NEQ = 11;
+  public static final int VAR = 2;
+}
+
@@ -0,0 +1,16 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b beta 20140226
+// Sat Oct 17 22:49:09 UTC 2026
+//----------------------------------------------------
+
+/** CUP generated class containing symbol constants. */
+public class sym {
+  /* terminals */
+  public static final int RPAREN = 4;
+  public static final int error = 1;
+  public static final int LPAREN = 3;
+  public static final int NAME = 2;
+  public static final int EOF = 0;
+}
+
@@ -0,0 +1,17 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b beta 20140226
+// Sat Oct 17 22:49:10 UTC 2026
+//----------------------------------------------------
+
+/** CUP generated class containing symbol constants. */
+public class sym {
+  /* terminals */
+  public static final int MEDEKLINK = 3;
+  public static final int error = 1;
+  public static final int NUMBER = 5;
+  public static final int MENG = 4;
+  public static final int EOF = 0;
+  public static final int KLINK = 2;
+}
+
@@ -0,0 +1,454 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import java_cup.runtime.BatchScanner;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.LocationTable;
+import java_cup.runtime.ParserPool;
+import java_cup.runtime.PooledSymbolFactory;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import java_cup.runtime.SymbolFactory;
+
+/**
+ * Checks of java_cup.runtime.lr_parser, driving the parser generated from
+ * src/test/resources/runtime/calc.cup (or calc_int.cup) with one of the option
+ * sets of the "testRuntime" target. Each check parses a statement list
+ * and compares the result (the text of the statements, with "E;" for those
+ * replaced by error recovery) with the expected one. The checks of the
+ * push, incremental and pooling APIs run a set of inputs, some of them with
+ * syntax errors, and compare the results and the errors reported with those
+ * of a plain parse() of the same input. Exits with status 1 if any check
+ * fails.
+ */
+public class RuntimeCheck {
+
+	private static final SymbolFactory factory = new ComplexSymbolFactory();
+
+	/** Inputs for the checks against parse(). */
+	private static final String[] inputs = { "1+2;3*4;", "1 2;3;",
+			"1 2 3;(4+5)*6;7;", "1+;2*;3;", "(1;2;3;", "1;2", "" };
+
+	private static int failures = 0;
+
+	/** Errors reported by the parsers (see CheckParser). */
+	private static final StringBuilder reports = new StringBuilder();
+
+	/**
+	 * Scanner for single digit numbers, + * ( ) ; and blanks. The positions
+	 * of the tokens are their offsets in the input.
+	 */
+	static class TokenScanner implements Scanner {
+		private final String input;
+		private final SymbolFactory factory;
+		private int pos = 0;
+
+		TokenScanner(final String input) {
+			this(input, RuntimeCheck.factory);
+		}
+
+		TokenScanner(final String input, final SymbolFactory factory) {
+			this.input = input;
+			this.factory = factory;
+		}
+
+		/** Skips the first n tokens. */
+		TokenScanner skip(final int n) {
+			for (int i = 0; i < n; i++) {
+				next_token();
+			}
+			return this;
+		}
+
+		/** A token from the input between left and right. */
+		protected Symbol token(final String name, final int id,
+				final Object value, final int left, final int right) {
+			final Symbol s = factory.newSymbol(name, id, value);
+			s.left = left;
+			s.right = right;
+			return s;
+		}
+
+		public Symbol next_token() {
+			while (pos < input.length() && input.charAt(pos) == ' ') {
+				pos++;
+			}
+			if (pos == input.length()) {
+				return token("EOF", CalcSym.EOF, null, pos, pos);
+			}
+			final int start = pos;
+			final char c = input.charAt(pos++);
+			switch (c) {
+			case '+':
+				return token("PLUS", CalcSym.PLUS, null, start, pos);
+			case '*':
+				return token("TIMES", CalcSym.TIMES, null, start, pos);
+			case '(':
+				return token("LP", CalcSym.LP, null, start, pos);
+			case ')':
+				return token("RP", CalcSym.RP, null, start, pos);
+			case ';':
+				return token("SEMI", CalcSym.SEMI, null, start, pos);
+			default:
+				return token("NUM", CalcSym.NUM, Integer.valueOf(c - '0'),
+						start, pos);
+			}
+		}
+	}
+
+	/** TokenScanner handing out its tokens in batches. */
+	static class BatchTokenScanner extends TokenScanner implements
+			BatchScanner {
+		BatchTokenScanner(final String input) {
+			super(input);
+		}
+
+		public int next_tokens(final Symbol[] buffer) {
+			int n = 0;
+			while (n < buffer.length) {
+				final Symbol s = next_token();
+				buffer[n++] = s;
+				if (s.sym == CalcSym.EOF) {
+					break;
+				}
+			}
+			return n;
+		}
+	}
+
+	/**
+	 * TokenScanner recording the positions of its tokens in a LocationTable,
+	 * with the index of the token as Symbol position.
+	 */
+	static class LocationScanner extends TokenScanner {
+		private final LocationTable table;
+
+		LocationScanner(final String input, final LocationTable table) {
+			super(input);
+			this.table = table;
+		}
+
+		@Override
+		protected Symbol token(final String name, final int id,
+				final Object value, final int left, final int right) {
+			final int i = table.add(1, left + 1, left, 1, right + 1, right);
+			return super.token(name, id, value, i, i);
+		}
+	}
+
+	/** TokenScanner keeping the tokens it returns, and their numbers. */
+	static class RecordingScanner extends TokenScanner {
+		final List<Symbol> tokens = new ArrayList<Symbol>();
+		final List<Integer> syms = new ArrayList<Integer>();
+
+		RecordingScanner(final String input) {
+			super(input);
+		}
+
+		@Override
+		protected Symbol token(final String name, final int id,
+				final Object value, final int left, final int right) {
+			final Symbol s = super.token(name, id, value, left, right);
+			tokens.add(s);
+			syms.add(Integer.valueOf(id));
+			return s;
+		}
+	}
+
+	/**
+	 * A parser that records the errors it reports in reports, with the
+	 * offset of the Symbol in error (found in the LocationTable if there is
+	 * one), and keeps its debugging messages to itself.
+	 */
+	static class CheckParser extends CalcParser {
+		CheckParser(final Scanner s, final SymbolFactory sf) {
+			super(s, sf);
+		}
+
+		@Override
+		public void report_error(final String message, final Object info) {
+			reports.append(message);
+			if (info instanceof Symbol && ((Symbol) info).left != -1) {
+				final LocationTable table = getLocationTable();
+				final int left = ((Symbol) info).left;
+				reports.append(" at ").append(
+						table == null ? left : table.left(left).getOffset());
+			}
+			reports.append("; ");
+		}
+
+		@Override
+		public void debug_message(final String mess) {
+		}
+	}
+
+	private static CheckParser parser(final Scanner s) {
+		return new CheckParser(s, factory);
+	}
+
+	/**
+	 * A parser whose push parse ended with an exception, in error recovery
+	 * with Symbols offered but not read.
+	 */
+	private static CalcParser failed_push() throws Exception {
+		final CalcParser p = parser(null);
+		p.startPush();
+		p.offer(factory.newSymbol("NUM", CalcSym.NUM, Integer.valueOf(1)));
+		p.offer(factory.newSymbol("NUM", CalcSym.NUM, Integer.valueOf(2)));
+		p.offer(factory.newSymbol("PLUS", CalcSym.PLUS));
+		try {
+			p.endOfInput();
+		} catch (final Exception e) {
+			return p;
+		}
+		throw new Exception("push parse of \"1 2+\" did not fail");
+	}
+
+	/**
+	 * Push parse of the input, offering the tokens of the scanner one at a
+	 * time until the parse is done (like parse(), error recovery may read
+	 * several EOF Symbols).
+	 */
+	private static Symbol push(final CalcParser p, final String input)
+			throws Exception {
+		final Scanner s = new TokenScanner(input);
+		p.startPush();
+		while (!p.offer(s.next_token())) {
+		}
+		return p.endOfInput();
+	}
+
+	/** Index of the first token in which two inputs differ. */
+	private static int first_change(final String from, final String to) {
+		final String a = from.replace(" ", "");
+		final String b = to.replace(" ", "");
+		int i = 0;
+		while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+			i++;
+		}
+		return i;
+	}
+
+	/** A parse to check, returning the result. */
+	private interface Parse {
+		Symbol run() throws Exception;
+	}
+
+	/** The result of a parse, or the message of the exception it threw. */
+	private static String result(final Parse parse) {
+		try {
+			return String.valueOf(parse.run().value);
+		} catch (final Exception e) {
+			return "exception \"" + e.getMessage() + "\"";
+		}
+	}
+
+	/** The result of a parse and the errors it reported. */
+	private static String outcome(final Parse parse) {
+		reports.setLength(0);
+		final String result = result(parse);
+		return result + " (" + reports + ")";
+	}
+
+	private static void fail(final String name, final String expected,
+			final String actual) {
+		failures++;
+		System.err.println("FAILED " + name + ": expected " + expected
+				+ ", got " + actual);
+	}
+
+	private static void check(final String name, final String expected,
+			final Parse parse) {
+		final String actual = result(parse);
+		if (!expected.equals(actual)) {
+			fail(name, expected, actual);
+		}
+	}
+
+	/** Checks a parse of input against a plain parse() of it. */
+	private static void compare(final String name, final String input,
+			final Parse parse) {
+		final String expected = outcome(new Parse() {
+			public Symbol run() throws Exception {
+				return parser(new TokenScanner(input)).parse();
+			}
+		});
+		final String actual = outcome(parse);
+		if (!expected.equals(actual)) {
+			fail(name + " of \"" + input + "\"", expected, actual);
+		}
+	}
+
+	public static void main(final String[] argv) {
+		check("parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				return parser(new TokenScanner("1 2;3;")).parse();
+			}
+		});
+		check("debug_parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				return parser(new TokenScanner("1 2;3;")).debug_parse();
+			}
+		});
+		check("batched parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				return parser(new BatchTokenScanner("1 2;3;")).parse();
+			}
+		});
+		check("debug_parse after a batched parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				final CalcParser p = parser(new BatchTokenScanner("1+2;"));
+				p.parse();
+				p.setScanner(new TokenScanner("1 2;3;"));
+				return p.debug_parse();
+			}
+		});
+		check("parse after a failed push parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				final CalcParser p = failed_push();
+				p.setScanner(new TokenScanner("1 2;3;"));
+				return p.parse();
+			}
+		});
+		check("debug_parse after a failed push parse", "E;3;", new Parse() {
+			public Symbol run() throws Exception {
+				final CalcParser p = failed_push();
+				p.setScanner(new TokenScanner("1 2;3;"));
+				return p.debug_parse();
+			}
+		});
+		/* -chain_units must only relabel the parser's own Symbols */
+		check("parse leaving the tokens as they are", "3;E;", new Parse() {
+			public Symbol run() throws Exception {
+				final RecordingScanner s = new RecordingScanner("1+2;3 4;");
+				final Symbol result = parser(s).parse();
+				for (int i = 0; i < s.tokens.size(); i++) {
+					if (s.tokens.get(i).sym != s.syms.get(i).intValue()) {
+						throw new Exception(s.tokens.get(i)
+								+ " relabelled to " + s.tokens.get(i).sym);
+					}
+				}
+				return result;
+			}
+		});
+
+		final ParserPool<CheckParser> pool = new ParserPool<CheckParser>() {
+			@Override
+			protected CheckParser create() {
+				return parser(null);
+			}
+		};
+		for (final String input : inputs) {
+			/* error recovery in a push parse runs out of input and starts
+			 * over with every Symbol offered */
+			compare("push parse", input, new Parse() {
+				public Symbol run() throws Exception {
+					return push(parser(null), input);
+				}
+			});
+			compare("push parse after a push parse", input, new Parse() {
+				public Symbol run() throws Exception {
+					final CalcParser p = parser(null);
+					push(p, "1 2+;");
+					reports.setLength(0);
+					return push(p, input);
+				}
+			});
+			compare("parse after reset()", input, new Parse() {
+				public Symbol run() throws Exception {
+					final LocationTable table = new LocationTable("old");
+					final CalcParser p = parser(new LocationScanner("(1+;2 3",
+							table));
+					p.setLocationTable(table);
+					result(new Parse() {
+						public Symbol run() throws Exception {
+							return p.parse();
+						}
+					});
+					p.reset(new TokenScanner(input));
+					reports.setLength(0);
+					return p.parse();
+				}
+			});
+			compare("parse after reset() of a failed push parse", input,
+					new Parse() {
+						public Symbol run() throws Exception {
+							final CalcParser p = failed_push();
+							p.reset(new TokenScanner(input));
+							reports.setLength(0);
+							return p.parse();
+						}
+					});
+			compare("parse with a ParserPool", input, new Parse() {
+				public Symbol run() throws Exception {
+					final LocationTable table = new LocationTable("old");
+					final CheckParser old = pool.acquire(new LocationScanner(
+							"1 2;(3", table));
+					old.setLocationTable(table);
+					result(new Parse() {
+						public Symbol run() throws Exception {
+							return old.parse();
+						}
+					});
+					pool.release(old);
+					final CheckParser p = pool.acquire(new TokenScanner(input));
+					try {
+						if (p != old) {
+							throw new Exception("parser not reused");
+						}
+						reports.setLength(0);
+						return p.parse();
+					} finally {
+						pool.release(p);
+					}
+				}
+			});
+			compare("parse with a PooledSymbolFactory", input, new Parse() {
+				public Symbol run() throws Exception {
+					final PooledSymbolFactory f = new PooledSymbolFactory();
+					final CalcParser p = new CheckParser(new TokenScanner(
+							"(1+2)*3;4 5;6;", f), f);
+					p.parse();
+					if (f.idle() == 0) {
+						throw new Exception("no Symbols pooled");
+					}
+					p.reset(new TokenScanner(input, f));
+					reports.setLength(0);
+					return p.parse();
+				}
+			});
+			compare("parse with a LocationTable", input, new Parse() {
+				public Symbol run() throws Exception {
+					final LocationTable table = new LocationTable("calc");
+					final CalcParser p = parser(new LocationScanner(input,
+							table));
+					p.setLocationTable(table);
+					return p.parse();
+				}
+			});
+
+			/* edit a statement in the middle of a parse with checkpoints */
+			final String base = "1+2;3*4;5;6;7;";
+			final String edited = "1+2;3*4;" + input + "7;";
+			final int changed = first_change(base, edited);
+			compare("reparse()", edited, new Parse() {
+				public Symbol run() throws Exception {
+					final CalcParser p = parser(new TokenScanner(base));
+					p.set_checkpoint_interval(2);
+					p.parse();
+					reports.setLength(0);
+					final int from = p.resume_point(changed);
+					if (from == 0 || from > changed) {
+						throw new Exception("resume_point(" + changed
+								+ ") is " + from);
+					}
+					return p.reparse(changed,
+							new TokenScanner(edited).skip(from));
+				}
+			});
+		}
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+}